@@ -1,22 +1,71 @@
 package store;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 import store.application.ConvenienceStoreService;
+import store.domain.StockJournal;
+import store.infra.CatalogReloader;
 import store.infra.FilerLoaderProductRepository;
+import store.infra.InventoryVersions;
+import store.infra.ReservationSweeper;
+import store.infra.StockWriteAheadLog;
 import store.presentation.ConvenienceStoreController;
 import store.application.OrderParser;
 import store.presentation.view.InputView;
 import store.presentation.view.OutputView;
 
 public class Application {
+    static final String DATA_DIR_PROPERTY = "store.data-dir";
+    static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(1);
+    private static final String HOT_PRODUCTS_PROPERTY = "store.hot-products";
+    private static final String HOT_PRODUCTS_DELIMITER = ",";
+
     public static void main(String[] args) {
-        InputView inputView = new InputView();
-        OutputView outputView = new OutputView();
+        // store.port 를 주면 콘솔 대신 HTTP 서버로 여러 계산대의 주문을 받는다
+        if (ServerApplication.isRequested()) {
+            ServerApplication.run();
+            return;
+        }
         FilerLoaderProductRepository filerLoaderProductRepository = new FilerLoaderProductRepository();
-        OrderParser orderParser = new OrderParser();
-        ConvenienceStoreService convenienceStoreService = new ConvenienceStoreService(orderParser,
-                filerLoaderProductRepository);
-        ConvenienceStoreController convenienceStoreController = new ConvenienceStoreController(inputView, outputView,
-                convenienceStoreService);
-        convenienceStoreController.run();
+        useEscrowForHotProducts(filerLoaderProductRepository);
+        String dataDir = System.getProperty(DATA_DIR_PROPERTY);
+        if (dataDir == null) {
+            run(filerLoaderProductRepository, StockJournal.NONE);
+            return;
+        }
+        try (StockWriteAheadLog stockWriteAheadLog = new StockWriteAheadLog(Path.of(dataDir))) {
+            stockWriteAheadLog.recover(filerLoaderProductRepository);
+            stockWriteAheadLog.startCheckpoints(filerLoaderProductRepository, CHECKPOINT_INTERVAL);
+            run(filerLoaderProductRepository, stockWriteAheadLog);
+        }
+    }
+
+    static void useEscrowForHotProducts(FilerLoaderProductRepository filerLoaderProductRepository) {
+        String hotProducts = System.getProperty(HOT_PRODUCTS_PROPERTY);
+        if (hotProducts == null) {
+            return;
+        }
+        int sliceCount = Runtime.getRuntime().availableProcessors();
+        Arrays.stream(hotProducts.split(HOT_PRODUCTS_DELIMITER))
+                .map(String::trim)
+                .flatMap(productName -> filerLoaderProductRepository.findAllByName(productName).stream())
+                .forEach(product -> product.useEscrow(sliceCount));
+    }
+
+    private static void run(FilerLoaderProductRepository filerLoaderProductRepository, StockJournal stockJournal) {
+        OutputView outputView = new OutputView();
+        try (CatalogReloader catalogReloader = new CatalogReloader(filerLoaderProductRepository,
+                outputView::printError);
+             ReservationSweeper reservationSweeper = new ReservationSweeper()) {
+            InventoryVersions inventoryVersions = new InventoryVersions(filerLoaderProductRepository, stockJournal);
+            ConvenienceStoreService convenienceStoreService = new ConvenienceStoreService(new OrderParser(),
+                    filerLoaderProductRepository, inventoryVersions, reservationSweeper, inventoryVersions);
+            ConvenienceStoreController convenienceStoreController = new ConvenienceStoreController(new InputView(),
+                    outputView, convenienceStoreService);
+            catalogReloader.start();
+            reservationSweeper.start();
+            convenienceStoreController.run();
+        }
     }
 }
@@ -0,0 +1,106 @@
+package store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import store.application.AdmissionController;
+import store.application.CheckoutPipeline;
+import store.application.ConvenienceStoreService;
+import store.application.OrderParser;
+import store.domain.InMemoryMemberShipLedger;
+import store.domain.MemberShipLedger;
+import store.domain.StockJournal;
+import store.infra.CatalogReloader;
+import store.infra.FileMemberShipLedger;
+import store.infra.FilerLoaderProductRepository;
+import store.infra.InventoryVersions;
+import store.infra.ReservationSweeper;
+import store.infra.StockWriteAheadLog;
+import store.presentation.CheckoutHttpServer;
+import store.presentation.view.OutputView;
+
+public class ServerApplication {
+    private static final String PORT_PROPERTY = "store.port";
+    private static final String PIPELINE_PROPERTY = "store.pipeline";
+    private static final String MEMBER_DIR_PROPERTY = "store.member-dir";
+    private static final Duration MEMBER_FLUSH_INTERVAL = Duration.ofSeconds(1);
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    static boolean isRequested() {
+        return System.getProperty(PORT_PROPERTY) != null;
+    }
+
+    static void run() {
+        int port = Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT);
+        String memberDir = System.getProperty(MEMBER_DIR_PROPERTY);
+        OutputView outputView = new OutputView();
+        try {
+            if (memberDir == null) {
+                serve(port, new InMemoryMemberShipLedger(), outputView);
+                return;
+            }
+            try (FileMemberShipLedger fileMemberShipLedger = new FileMemberShipLedger(Path.of(memberDir))) {
+                fileMemberShipLedger.startFlushing(MEMBER_FLUSH_INTERVAL, outputView::printError);
+                serve(port, fileMemberShipLedger, outputView);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void serve(int port, MemberShipLedger memberShipLedger, OutputView outputView)
+            throws IOException, InterruptedException {
+        FilerLoaderProductRepository filerLoaderProductRepository = new FilerLoaderProductRepository();
+        Application.useEscrowForHotProducts(filerLoaderProductRepository);
+        String dataDir = System.getProperty(Application.DATA_DIR_PROPERTY);
+        if (dataDir == null) {
+            serve(port, memberShipLedger, outputView, filerLoaderProductRepository, StockJournal.NONE);
+            return;
+        }
+        // 콘솔과 같은 그룹 커밋 로그로, 동시에 들어온 계산을 묶어 한 번에 fsync 한다
+        try (StockWriteAheadLog stockWriteAheadLog = new StockWriteAheadLog(Path.of(dataDir))) {
+            stockWriteAheadLog.recover(filerLoaderProductRepository);
+            stockWriteAheadLog.startCheckpoints(filerLoaderProductRepository, Application.CHECKPOINT_INTERVAL);
+            serve(port, memberShipLedger, outputView, filerLoaderProductRepository, stockWriteAheadLog);
+        }
+    }
+
+    private static void serve(int port, MemberShipLedger memberShipLedger, OutputView outputView,
+                              FilerLoaderProductRepository filerLoaderProductRepository, StockJournal stockJournal)
+            throws IOException, InterruptedException {
+        InventoryVersions inventoryVersions = new InventoryVersions(filerLoaderProductRepository, stockJournal);
+        try (CatalogReloader catalogReloader = new CatalogReloader(filerLoaderProductRepository,
+                outputView::printError);
+             ReservationSweeper reservationSweeper = new ReservationSweeper();
+             CheckoutPipeline checkoutPipeline = new CheckoutPipeline(inventoryVersions);
+             CheckoutHttpServer checkoutHttpServer = createServer(new ConvenienceStoreService(new OrderParser(),
+                     filerLoaderProductRepository, inventoryVersions, reservationSweeper, inventoryVersions),
+                     checkoutPipeline, memberShipLedger, port)) {
+            catalogReloader.start();
+            reservationSweeper.start();
+            if (Boolean.getBoolean(PIPELINE_PROPERTY)) {
+                checkoutPipeline.start();
+            }
+            checkoutHttpServer.start();
+            new CountDownLatch(1).await();
+        }
+    }
+
+    private static CheckoutHttpServer createServer(ConvenienceStoreService convenienceStoreService,
+                                                   CheckoutPipeline checkoutPipeline,
+                                                   MemberShipLedger memberShipLedger, int port) throws IOException {
+        if (Boolean.getBoolean(PIPELINE_PROPERTY)) {
+            return new CheckoutHttpServer(convenienceStoreService, checkoutPipeline, new AdmissionController(),
+                    memberShipLedger, port);
+        }
+        return new CheckoutHttpServer(convenienceStoreService, new AdmissionController(), memberShipLedger, port);
+    }
+}
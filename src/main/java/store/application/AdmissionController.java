@@ -0,0 +1,79 @@
+package store.application;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class AdmissionController {
+    private static final int DEFAULT_INITIAL_LIMIT = 64;
+    private static final int DEFAULT_MIN_LIMIT = 4;
+    private static final int DEFAULT_MAX_LIMIT = 1024;
+    private static final Duration DEFAULT_LATENCY_TARGET = Duration.ofMillis(5);
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionController() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_LATENCY_TARGET);
+    }
+
+    public AdmissionController(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(ApplicationErrorMessage.INVALID_ADMISSION_LIMIT.getMessage());
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    public <T> T admit(Supplier<T> checkout) {
+        int occupied = acquire();
+        long startedAt = System.nanoTime();
+        try {
+            return checkout.get();
+        } finally {
+            inFlight.decrementAndGet();
+            adjust(System.nanoTime() - startedAt, occupied);
+        }
+    }
+
+    private int acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                throw new IllegalStateException(ApplicationErrorMessage.CHECKOUT_OVERLOADED.getMessage());
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                admitted.increment();
+                return current + 1;
+            }
+        }
+    }
+
+    // 목표 지연을 넘으면 한도를 곱셈으로 줄이고, 한도를 다 쓰는 동안 빠르면 1씩 늘린다 (AIMD)
+    private void adjust(long latencyNanos, int occupied) {
+        if (latencyNanos > latencyTargetNanos) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * BACKOFF_RATIO)));
+            return;
+        }
+        limit.updateAndGet(current -> {
+            if (occupied < current) {
+                return current;
+            }
+            return Math.min(maxLimit, current + 1);
+        });
+    }
+
+    public AdmissionStats getStats() {
+        return new AdmissionStats(limit.get(), inFlight.get(), admitted.sum(), rejected.sum());
+    }
+}
@@ -0,0 +1,4 @@
+package store.application;
+
+public record AdmissionStats(int limit, int inFlight, long admitted, long rejected) {
+}
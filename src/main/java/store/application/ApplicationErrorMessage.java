@@ -0,0 +1,20 @@
+package store.application;
+
+public enum ApplicationErrorMessage {
+    CHECKOUT_OVERLOADED("주문이 몰려 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    CHECKOUT_CLOSED("계산대가 닫혀 주문을 처리할 수 없습니다."),
+    INVALID_ADMISSION_LIMIT("동시 처리 한도는 1 이상이며 최소 한도 <= 초기 한도 <= 최대 한도여야 합니다."),
+    INVALID_QUOTE_CACHE_CAPACITY("견적 캐시 크기는 1 이상이어야 합니다."),
+
+    ;
+    private static final String ERROR_PREFIX = "[ERROR] ";
+    private final String message;
+
+    ApplicationErrorMessage(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return ERROR_PREFIX + message;
+    }
+}
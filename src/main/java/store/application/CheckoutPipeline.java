@@ -0,0 +1,229 @@
+package store.application;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import store.domain.CommitResult;
+import store.domain.DomainErrorMessage;
+import store.domain.MemberShip;
+import store.domain.Order;
+import store.domain.OrderTotals;
+import store.domain.StockDecrement;
+import store.domain.StockJournal;
+
+public class CheckoutPipeline implements AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 100_000;
+
+    private final CheckoutSlot[] slots;
+    private final int mask;
+    private final StockJournal stockJournal;
+    private final AtomicLong claimCursor = new AtomicLong();
+    private volatile long writerCursor = -1;
+    private volatile long rendererCursor = -1;
+    private volatile boolean running = true;
+    private Thread writer;
+    private Thread renderer;
+
+    public CheckoutPipeline(StockJournal stockJournal) {
+        this(stockJournal, DEFAULT_CAPACITY);
+    }
+
+    public CheckoutPipeline(StockJournal stockJournal, int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new CheckoutSlot[size];
+        for (int index = 0; index < size; index++) {
+            slots[index] = new CheckoutSlot();
+        }
+        this.mask = size - 1;
+        this.stockJournal = stockJournal;
+    }
+
+    public void start() {
+        writer = startDaemon(this::write, "checkout-writer");
+        renderer = startDaemon(this::render, "checkout-renderer");
+    }
+
+    private static Thread startDaemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    public CompletableFuture<String> submit(Order order, MemberShip memberShip) {
+        long sequence = claimCursor.getAndIncrement();
+        // 한 바퀴 전의 슬롯이 렌더링을 마칠 때까지 생산자가 기다린다
+        for (int tries = 0; sequence - slots.length > rendererCursor; tries++) {
+            if (!running) {
+                return CompletableFuture.failedFuture(closedException());
+            }
+            idle(tries);
+        }
+        CheckoutSlot slot = slots[(int) (sequence & mask)];
+        CompletableFuture<String> receipt = new CompletableFuture<>();
+        slot.order = order;
+        slot.memberShip = memberShip;
+        slot.receipt = receipt;
+        slot.published = sequence;
+        // 닫히는 중에 게시된 슬롯은 close 가 보지 못했을 수 있으므로 여기서 실패시킨다
+        if (!running) {
+            receipt.completeExceptionally(closedException());
+        }
+        LockSupport.unpark(writer);
+        return receipt;
+    }
+
+    private void write() {
+        long next = 0;
+        while (running) {
+            CheckoutSlot slot = slots[(int) (next & mask)];
+            for (int tries = 0; slot.published != next; tries++) {
+                if (!running) {
+                    return;
+                }
+                idle(tries);
+            }
+            apply(slot);
+            writerCursor = next++;
+            LockSupport.unpark(renderer);
+        }
+    }
+
+    private void apply(CheckoutSlot slot) {
+        try {
+            OrderTotals totals = slot.order.getTotals();
+            ReceiptFormatter receiptFormatter = new ReceiptFormatter(slot.order, 0);
+            slot.durable = stockJournal.append(() -> commit(slot));
+            // 충돌한 주문은 멤버십 한도를 쓰지 않는다
+            if (slot.commitResult.isCommitted()) {
+                receiptFormatter = receiptFormatter.withMemberShipDiscount(slot.memberShip.applyDiscount(totals));
+            }
+            slot.receiptFormatter = receiptFormatter;
+        } catch (RuntimeException e) {
+            slot.error = e;
+        }
+    }
+
+    private List<StockDecrement> commit(CheckoutSlot slot) {
+        slot.commitResult = slot.order.commit();
+        return slot.commitResult.decrements();
+    }
+
+    private void render() {
+        long next = 0;
+        while (running) {
+            for (int tries = 0; writerCursor < next; tries++) {
+                if (!running) {
+                    return;
+                }
+                idle(tries);
+            }
+            CheckoutSlot slot = slots[(int) (next & mask)];
+            complete(slot);
+            slot.clear();
+            rendererCursor = next++;
+        }
+    }
+
+    private void complete(CheckoutSlot slot) {
+        CompletableFuture<String> receipt = slot.receipt;
+        if (slot.error != null) {
+            receipt.completeExceptionally(slot.error);
+            return;
+        }
+        if (!slot.commitResult.isCommitted()) {
+            receipt.completeExceptionally(
+                    new IllegalArgumentException(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage()));
+            return;
+        }
+        String formatted = slot.receiptFormatter.format();
+        slot.durable.whenComplete((decrements, error) -> {
+            if (error != null) {
+                receipt.completeExceptionally(error);
+                return;
+            }
+            receipt.complete(formatted);
+        });
+    }
+
+    private static void idle(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+            return;
+        }
+        LockSupport.parkNanos(PARK_NANOS);
+    }
+
+    public long getCommittedCount() {
+        return writerCursor + 1;
+    }
+
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            LockSupport.unpark(renderer);
+            awaitTermination(writer);
+            awaitTermination(renderer);
+        }
+        drain();
+    }
+
+    private static void awaitTermination(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 이미 재고를 차감한 주문은 영수증을 마저 돌려주고, 아직 반영하지 않은 주문은 예외로 완료한다
+    private void drain() {
+        long next = rendererCursor + 1;
+        for (; next <= writerCursor; next++) {
+            CheckoutSlot slot = slots[(int) (next & mask)];
+            complete(slot);
+            slot.clear();
+        }
+        long claimed = claimCursor.get();
+        for (; next < claimed; next++) {
+            CheckoutSlot slot = slots[(int) (next & mask)];
+            if (slot.published == next && slot.receipt != null) {
+                slot.receipt.completeExceptionally(closedException());
+                slot.clear();
+            }
+        }
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException(ApplicationErrorMessage.CHECKOUT_CLOSED.getMessage());
+    }
+
+    private static final class CheckoutSlot {
+        private volatile long published = -1;
+        private Order order;
+        private MemberShip memberShip;
+        private CompletableFuture<String> receipt;
+        private ReceiptFormatter receiptFormatter;
+        private CommitResult commitResult;
+        private CompletableFuture<List<StockDecrement>> durable;
+        private RuntimeException error;
+
+        private void clear() {
+            order = null;
+            memberShip = null;
+            receipt = null;
+            receiptFormatter = null;
+            commitResult = null;
+            durable = null;
+            error = null;
+        }
+    }
+}
@@ -1,33 +1,160 @@
 package store.application;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
+import store.domain.Cart;
+import store.domain.DomainErrorMessage;
+import store.domain.InventorySnapshots;
+import store.domain.LinePlan;
+import store.domain.ListingStats;
+import store.domain.MemberShip;
 import store.domain.Order;
 import store.domain.OrderProduct;
-import store.infra.FilerLoaderProductRepository;
+import store.domain.OrderTotals;
+import store.domain.Product;
+import store.domain.ProductRepository;
+import store.domain.Promotion;
+import store.domain.PromotionCalendar;
+import store.domain.PromotionDay;
+import store.domain.ReservationTracker;
+import store.domain.StockDecrement;
+import store.domain.StockJournal;
 import store.presentation.UserOrder;
 
 public class ConvenienceStoreService {
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(5);
+
     private final OrderParser orderParser;
-    private final FilerLoaderProductRepository filerLoaderProductRepository;
+    private final ProductRepository productRepository;
+    private final StockJournal stockJournal;
+    private final ReservationTracker reservationTracker;
+    private final InventorySnapshots inventorySnapshots;
+    private final PromotionCalendar promotionCalendar;
+    private final QuoteCache quoteCache = new QuoteCache();
+
+    public ConvenienceStoreService(OrderParser orderParser, ProductRepository productRepository) {
+        this(orderParser, productRepository, StockJournal.NONE);
+    }
+
+    public ConvenienceStoreService(OrderParser orderParser, ProductRepository productRepository,
+                                   StockJournal stockJournal) {
+        this(orderParser, productRepository, stockJournal, ReservationTracker.NONE);
+    }
+
+    public ConvenienceStoreService(OrderParser orderParser, ProductRepository productRepository,
+                                   StockJournal stockJournal, ReservationTracker reservationTracker) {
+        this(orderParser, productRepository, stockJournal, reservationTracker, () -> productRepository);
+    }
 
-    public ConvenienceStoreService(OrderParser orderParser, FilerLoaderProductRepository filerLoaderProductRepository) {
+    public ConvenienceStoreService(OrderParser orderParser, ProductRepository productRepository,
+                                   StockJournal stockJournal, ReservationTracker reservationTracker,
+                                   InventorySnapshots inventorySnapshots) {
         this.orderParser = orderParser;
-        this.filerLoaderProductRepository = filerLoaderProductRepository;
+        this.productRepository = productRepository;
+        this.stockJournal = stockJournal;
+        this.reservationTracker = reservationTracker;
+        this.inventorySnapshots = inventorySnapshots;
+        this.promotionCalendar = new PromotionCalendar(productRepository.getPromotions());
     }
 
     public String getStocks(){
-        return filerLoaderProductRepository.toString();
+        return inventorySnapshots.renderListing();
     }
 
     public Order retrieveOrderFromInput(String userOrderInput, LocalDateTime currentOrderDate) {
         List<UserOrder> parsedUserOrders = orderParser.parseInput(userOrderInput);
-        return convertToDomainOrders(parsedUserOrders, currentOrderDate);
+        Order order = convertToDomainOrders(productRepository, parsedUserOrders,
+                promotionCalendar.dayOf(currentOrderDate));
+        reservationTracker.track(order.reserve(RESERVATION_TTL));
+        return order;
+    }
+
+    public Order createOrder(String userOrderInput, LocalDateTime currentOrderDate) {
+        return convertToDomainOrders(productRepository, orderParser.parseInput(userOrderInput),
+                promotionCalendar.dayOf(currentOrderDate));
+    }
+
+    public List<LinePlan> quote(String userOrderInput, LocalDateTime currentOrderDate) {
+        List<UserOrder> parsedUserOrders = orderParser.parseInput(userOrderInput);
+        List<String> productNames = parsedUserOrders.stream().map(UserOrder::productName).toList();
+        List<List<Product>> stocks = inventorySnapshots.pin().findAllByNames(productNames);
+        PromotionDay promotionDay = promotionCalendar.dayOf(currentOrderDate);
+        return IntStream.range(0, parsedUserOrders.size())
+                .mapToObj(index -> quoteLine(stocks.get(index), parsedUserOrders.get(index), promotionDay))
+                .toList();
+    }
+
+    private LinePlan quoteLine(List<Product> lots, UserOrder userOrder, PromotionDay promotionDay) {
+        QuoteKey key = quoteKeyOf(lots, userOrder.quantity(), promotionDay);
+        if (key.promotionStock() + key.normalStock() < userOrder.quantity()) {
+            throw new IllegalArgumentException(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+        }
+        return quoteCache.get(key, () -> userOrder.toDomain(lots, promotionDay).getPlan());
+    }
+
+    private static QuoteKey quoteKeyOf(List<Product> lots, int quantity, PromotionDay promotionDay) {
+        Promotion promotion = null;
+        int promotionStock = 0;
+        int normalStock = 0;
+        for (Product lot : lots) {
+            if (!lot.promotionExists(promotionDay)) {
+                normalStock += lot.getQuantity();
+                continue;
+            }
+            if (promotion == null) {
+                promotion = lot.getPromotion();
+            }
+            promotionStock += lot.getQuantity();
+        }
+        return new QuoteKey(lots.getFirst().getName(), lots.getFirst().getPrice(), promotion,
+                promotionDay.epochDay(), quantity, promotionStock, normalStock);
+    }
+
+    public QuoteStats getQuoteStats() {
+        return quoteCache.getStats();
+    }
+
+    public ListingStats getListingStats() {
+        return inventorySnapshots.getListingStats();
+    }
+
+    // 바로 확정하는 주문은 예약할 틈이 없으므로 예약 없이 잠금 안에서 재고를 확인하고 차감한다
+    public String checkout(String userOrderInput, MemberShip memberShip, LocalDateTime currentOrderDate) {
+        return checkout(createOrder(userOrderInput, currentOrderDate), memberShip);
+    }
+
+    public Cart newCart(LocalDateTime currentOrderDate) {
+        return new Cart(productRepository, promotionCalendar.dayOf(currentOrderDate));
+    }
+
+    public String checkout(Cart cart, MemberShip memberShip) {
+        Order order = cart.toOrder();
+        reservationTracker.track(order.reserve(RESERVATION_TTL));
+        String receipt = checkout(order, memberShip);
+        cart.clear();
+        return receipt;
+    }
+
+    // 재고 차감이 성공한 주문만 멤버십 한도를 쓴다. 영수증 내용은 차감 전에 잡아 둔다.
+    public String checkout(Order order, MemberShip memberShip) {
+        OrderTotals totals = order.getTotals();
+        ReceiptFormatter receiptFormatter = new ReceiptFormatter(order, 0);
+        commit(order);
+        return receiptFormatter.withMemberShipDiscount(memberShip.applyDiscount(totals)).format();
+    }
+
+    public List<StockDecrement> commit(Order order) {
+        return stockJournal.record(order::decreaseAmount);
     }
 
-    private Order convertToDomainOrders(List<UserOrder> parsedUserOrders, LocalDateTime orderDate) {
-        List<OrderProduct> domainOrderProducts = parsedUserOrders.stream()
-                .map(each -> each.toDomain(filerLoaderProductRepository.findAllByName(each.productName()), orderDate))
+    private static Order convertToDomainOrders(ProductRepository productRepository, List<UserOrder> parsedUserOrders,
+                                               PromotionDay promotionDay) {
+        List<String> productNames = parsedUserOrders.stream().map(UserOrder::productName).toList();
+        List<List<Product>> stocks = productRepository.findAllByNames(productNames);
+        List<OrderProduct> domainOrderProducts = IntStream.range(0, parsedUserOrders.size())
+                .mapToObj(index -> parsedUserOrders.get(index).toDomain(stocks.get(index), promotionDay))
                 .toList();
         return new Order(domainOrderProducts);
     }
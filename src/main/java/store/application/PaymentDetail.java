@@ -1,14 +1,19 @@
 package store.application;
 
 import store.domain.Order;
+import store.domain.OrderTotals;
 
 public record PaymentDetail(int totalAmount, int promotionDiscount, int totalQuantity, int memberShipDiscount,
                             int paymentAmount) {
     public static PaymentDetail of(Order order, int memberShipDiscount) {
-        int totalAmount = order.getTotalPrice();
-        int promotionDiscount = order.getPromotionDiscount();
-        int paymentAmount = totalAmount - promotionDiscount - memberShipDiscount;
-        int totalQuantity = order.getTotalQuantity();
-        return new PaymentDetail(totalAmount, promotionDiscount, memberShipDiscount, totalQuantity, paymentAmount);
+        OrderTotals totals = order.getTotals();
+        int paymentAmount = totals.totalPrice() - totals.promotionDiscount() - memberShipDiscount;
+        return new PaymentDetail(totals.totalPrice(), totals.promotionDiscount(), totals.totalQuantity(),
+                memberShipDiscount, paymentAmount);
+    }
+
+    public PaymentDetail withMemberShipDiscount(int memberShipDiscount) {
+        return new PaymentDetail(totalAmount, promotionDiscount, totalQuantity, memberShipDiscount,
+                totalAmount - promotionDiscount - memberShipDiscount);
     }
 }
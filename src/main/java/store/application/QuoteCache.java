@@ -0,0 +1,59 @@
+package store.application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import store.domain.LinePlan;
+
+public class QuoteCache {
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final Map<QuoteKey, LinePlan> plans;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public QuoteCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public QuoteCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(ApplicationErrorMessage.INVALID_QUOTE_CACHE_CAPACITY.getMessage());
+        }
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QuoteKey, LinePlan> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    // 재고나 프로모션이 바뀌면 키가 달라지므로 이전 견적은 다시 쓰이지 않고 LRU 로 밀려난다
+    public LinePlan get(QuoteKey key, Supplier<LinePlan> planner) {
+        synchronized (plans) {
+            LinePlan cached = plans.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        LinePlan plan = planner.get();
+        synchronized (plans) {
+            plans.put(key, plan);
+        }
+        return plan;
+    }
+
+    public QuoteStats getStats() {
+        synchronized (plans) {
+            return new QuoteStats(hits.sum(), misses.sum(), evictions.sum(), plans.size());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package store.application;
+
+import store.domain.Promotion;
+
+public record QuoteKey(String productName, int unitPrice, Promotion promotion, long epochDay, int quantity,
+                       int promotionStock, int normalStock) {
+}
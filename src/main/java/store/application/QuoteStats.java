@@ -0,0 +1,11 @@
+package store.application;
+
+public record QuoteStats(long hits, long misses, long evictions, int size) {
+    public double hitRatio() {
+        long lookups = hits + misses;
+        if (lookups == 0) {
+            return 0;
+        }
+        return (double) hits / lookups;
+    }
+}
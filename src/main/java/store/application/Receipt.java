@@ -1,24 +1,33 @@
 package store.application;
 
 import java.util.List;
+import store.domain.LinePlan;
 import store.domain.OrderProduct;
 import store.domain.Order;
 
 public record Receipt(String name, int quantity, int totalPrice) {
     public static Receipt of(OrderProduct orderProduct) {
-        return new Receipt(orderProduct.getProductName(), orderProduct.getQuantity(), orderProduct.getTotalPrice());
+        return of(orderProduct.getPlan());
     }
 
     public static Receipt ofPromotion(OrderProduct orderProduct) {
-        return new Receipt(orderProduct.getProductName(), orderProduct.calculatePromotedCount(), 0);
+        return ofPromotion(orderProduct.getPlan());
+    }
+
+    private static Receipt of(LinePlan plan) {
+        return new Receipt(plan.productName(), plan.quantity(), plan.totalPrice());
+    }
+
+    private static Receipt ofPromotion(LinePlan plan) {
+        return new Receipt(plan.productName(), plan.promotedCount(), 0);
     }
 
     public static List<Receipt> ofList(Order order) {
-        return order.getRequestedOrders().stream().map(Receipt::of).toList();
+        return order.getLinePlans().stream().map(Receipt::of).toList();
     }
 
     public static List<Receipt> ofPromotedOrders(Order orders) {
-        return orders.getPromotedOrders().stream().filter(order -> order.calculatePromotedCount() > 0)
+        return orders.getLinePlans().stream().filter(plan -> plan.promotedCount() > 0)
                 .map(Receipt::ofPromotion).toList();
     }
 
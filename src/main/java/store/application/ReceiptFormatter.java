@@ -9,12 +9,24 @@ public class ReceiptFormatter {
     private static final String PROMOTION_HEADER = "=============증\t\t정===============";
     private static final String DIVIDER = "====================================";
 
-    private final Order order;
-    private final int memberShipDiscount;
+    private final List<Receipt> receipts;
+    private final List<Receipt> promotedReceipts;
+    private final PaymentDetail paymentDetail;
 
     public ReceiptFormatter(Order order, int memberShipDiscount) {
-        this.order = order;
-        this.memberShipDiscount = memberShipDiscount;
+        this(Receipt.ofList(order), Receipt.ofPromotedOrders(order), PaymentDetail.of(order, memberShipDiscount));
+    }
+
+    private ReceiptFormatter(List<Receipt> receipts, List<Receipt> promotedReceipts, PaymentDetail paymentDetail) {
+        this.receipts = receipts;
+        this.promotedReceipts = promotedReceipts;
+        this.paymentDetail = paymentDetail;
+    }
+
+    // 차감 전에 잡아 둔 영수증 내용은 그대로 두고, 커밋 뒤에 확정된 멤버십 할인만 바꿔 끼운다
+    public ReceiptFormatter withMemberShipDiscount(int memberShipDiscount) {
+        return new ReceiptFormatter(receipts, promotedReceipts,
+                paymentDetail.withMemberShipDiscount(memberShipDiscount));
     }
 
     public String format() {
@@ -27,7 +39,6 @@ public class ReceiptFormatter {
     }
 
     private String formatOrderSection() {
-        List<Receipt> receipts = Receipt.ofList(order);
         return String.join(
                 System.lineSeparator(),
                 STORE_HEADER,
@@ -37,7 +48,6 @@ public class ReceiptFormatter {
     }
 
     private String formatPromotionSection() {
-        List<Receipt> promotedReceipts = Receipt.ofPromotedOrders(order);
         return String.join(
                 System.lineSeparator(),
                 PROMOTION_HEADER,
@@ -47,12 +57,11 @@ public class ReceiptFormatter {
     }
 
     private String formatPaymentSection() {
-        PaymentDetail paymentDetail = PaymentDetail.of(order, memberShipDiscount);
         return String.join(
                 System.lineSeparator(),
                 formatPaymentLine("총구매액", formatMoney(paymentDetail.totalAmount())),
                 formatPaymentLine("행사할인", formatDiscount(paymentDetail.promotionDiscount())),
-                formatPaymentLine("멤버십할인", formatDiscount(memberShipDiscount)),
+                formatPaymentLine("멤버십할인", formatDiscount(paymentDetail.memberShipDiscount())),
                 formatPaymentLine("내실돈", formatMoney(paymentDetail.paymentAmount()))
         );
     }
@@ -0,0 +1,102 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Cart {
+    private final ProductRepository productRepository;
+    private final PromotionDay promotionDay;
+    private final Map<String, OrderProduct> lines = new LinkedHashMap<>();
+    private OrderTotals totals = OrderTotals.EMPTY;
+
+    public Cart(ProductRepository productRepository, LocalDateTime orderDate) {
+        this(productRepository, new PromotionCalendar(productRepository.getPromotions()).dayOf(orderDate));
+    }
+
+    public Cart(ProductRepository productRepository, PromotionDay promotionDay) {
+        this.productRepository = productRepository;
+        this.promotionDay = promotionDay;
+    }
+
+    public void add(String productName, int quantity) {
+        validateQuantity(quantity);
+        OrderProduct line = lines.get(productName);
+        if (line == null) {
+            List<Product> stocks = productRepository.findAllByNames(List.of(productName)).getFirst();
+            line = new OrderProduct(stocks, 0, promotionDay);
+            lines.put(productName, line);
+        }
+        changeQuantity(productName, line, line.getQuantity() + quantity);
+    }
+
+    public void changeQuantity(String productName, int quantity) {
+        if (quantity == 0) {
+            remove(productName);
+            return;
+        }
+        validateQuantity(quantity);
+        changeQuantity(productName, getLine(productName), quantity);
+    }
+
+    public void remove(String productName) {
+        OrderProduct line = getLine(productName);
+        totals = totals.minus(line.getPlan());
+        lines.remove(productName);
+    }
+
+    // 바뀐 줄의 이전 계획을 빼고 새 계획을 더해 합계를 O(1)로 갱신한다
+    private void changeQuantity(String productName, OrderProduct line, int quantity) {
+        LinePlan previous = line.getPlan();
+        line.changeQuantity(quantity);
+        if (!line.hasEnoughStock()) {
+            line.changeQuantity(previous.quantity());
+            if (previous.quantity() == 0) {
+                lines.remove(productName);
+            }
+            throw new IllegalArgumentException(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+        }
+        totals = totals.minus(previous).plus(line.getPlan());
+    }
+
+    private OrderProduct getLine(String productName) {
+        OrderProduct line = lines.get(productName);
+        if (line == null) {
+            throw new IllegalArgumentException(DomainErrorMessage.INVALID_INPUT.getMessage());
+        }
+        return line;
+    }
+
+    private static void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException(DomainErrorMessage.INVALID_QUANTITY.getMessage());
+        }
+    }
+
+    public OrderTotals getTotals() {
+        return totals;
+    }
+
+    public int previewMemberShipDiscount(MemberShip memberShip) {
+        return memberShip.previewDiscount(totals.normalProductPrice());
+    }
+
+    public List<LinePlan> getLinePlans() {
+        return lines.values().stream().map(OrderProduct::getPlan).toList();
+    }
+
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    // 주문은 줄의 복사본으로 만들어 확정에 실패해도 장바구니가 그대로 남는다
+    public Order toOrder() {
+        return new Order(lines.values().stream().map(OrderProduct::copy).toList());
+    }
+
+    public void clear() {
+        lines.clear();
+        totals = OrderTotals.EMPTY;
+    }
+}
@@ -0,0 +1,17 @@
+package store.domain;
+
+import java.util.List;
+
+public record CommitResult(List<StockDecrement> decrements, List<LineConflict> conflicts) {
+    static CommitResult committed(List<StockDecrement> decrements) {
+        return new CommitResult(decrements, List.of());
+    }
+
+    static CommitResult conflicted(List<LineConflict> conflicts) {
+        return new CommitResult(List.of(), conflicts);
+    }
+
+    public boolean isCommitted() {
+        return conflicts.isEmpty();
+    }
+}
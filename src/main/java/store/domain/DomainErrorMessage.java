@@ -5,6 +5,8 @@ public enum DomainErrorMessage {
     QUANTITY_EXCEEDED("재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요."),
     INVALID_INPUT("잘못된 입력입니다. 다시 입력해 주세요."),
     NOT_IDENTICAL("제품 목록에는 동일한 제품 종류만 포함되어야 합니다."),
+    INVALID_SLICE_COUNT("재고 슬라이스 개수는 1 이상이어야 합니다."),
+    INVALID_MEMBER_ID("잘못된 회원 번호입니다."),
 
     ;
     private static final String ERROR_PREFIX = "[ERROR] ";
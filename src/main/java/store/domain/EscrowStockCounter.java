@@ -0,0 +1,125 @@
+package store.domain;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class EscrowStockCounter implements StockCounter {
+    // 슬라이스마다 64바이트 캐시 라인 하나를 통째로 써서 다른 슬라이스와 거짓 공유가 생기지 않게 한다.
+    private static final int LINE_LONGS = 8;
+    private static final int AVAILABLE = 0;
+    private static final int RESERVED = 1;
+
+    private final AtomicLongArray slices;
+    private final int sliceCount;
+
+    EscrowStockCounter(int onHandQuantity, int reservedQuantity, int sliceCount) {
+        this.sliceCount = sliceCount;
+        this.slices = new AtomicLongArray((sliceCount + 1) * LINE_LONGS);
+        int availableQuantity = onHandQuantity - reservedQuantity;
+        for (int slice = 0; slice < sliceCount; slice++) {
+            int share = availableQuantity / sliceCount;
+            if (slice < availableQuantity % sliceCount) {
+                share++;
+            }
+            slices.set(indexOf(slice, AVAILABLE), share);
+        }
+        slices.set(indexOf(0, RESERVED), reservedQuantity);
+    }
+
+    private static int indexOf(int slice, int field) {
+        return (slice + 1) * LINE_LONGS + field;
+    }
+
+    private int homeSlice() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        return Math.floorMod(hash ^ (hash >>> 16), sliceCount);
+    }
+
+    @Override
+    public int take(int quantity) {
+        return drain(AVAILABLE, quantity);
+    }
+
+    @Override
+    public int reserve(int quantity) {
+        int taken = drain(AVAILABLE, quantity);
+        deposit(RESERVED, taken);
+        return taken;
+    }
+
+    @Override
+    public int release(int quantity) {
+        int released = drain(RESERVED, quantity);
+        deposit(AVAILABLE, released);
+        return released;
+    }
+
+    @Override
+    public int adjust(int delta) {
+        if (delta >= 0) {
+            deposit(AVAILABLE, delta);
+            return delta;
+        }
+        return -drain(AVAILABLE, -delta);
+    }
+
+    private int drain(int field, int quantity) {
+        if (quantity <= 0) {
+            return 0;
+        }
+        int home = homeSlice();
+        int remaining = quantity - takeFrom(indexOf(home, field), quantity);
+        for (int offset = 1; offset < sliceCount && remaining > 0; offset++) {
+            remaining -= borrow(home, (home + offset) % sliceCount, field, remaining);
+        }
+        return quantity - remaining;
+    }
+
+    private int borrow(int home, int sibling, int field, int needed) {
+        int siblingIndex = indexOf(sibling, field);
+        // 모자란 만큼만 빌리면 다음 주문도 다시 빌리러 가야 하므로 남은 몫의 절반까지 한 번에 가져온다.
+        long available = slices.get(siblingIndex);
+        int borrowed = takeFrom(siblingIndex, (int) Math.max(needed, available / 2));
+        int used = Math.min(borrowed, needed);
+        if (borrowed > used) {
+            slices.addAndGet(indexOf(home, field), borrowed - used);
+        }
+        return used;
+    }
+
+    private int takeFrom(int index, int quantity) {
+        long current;
+        long taken;
+        do {
+            current = slices.get(index);
+            taken = Math.min(current, quantity);
+            if (taken <= 0) {
+                return 0;
+            }
+        } while (!slices.compareAndSet(index, current, current - taken));
+        return (int) taken;
+    }
+
+    private void deposit(int field, int quantity) {
+        if (quantity > 0) {
+            slices.addAndGet(indexOf(homeSlice(), field), quantity);
+        }
+    }
+
+    @Override
+    public int available() {
+        return sum(AVAILABLE);
+    }
+
+    @Override
+    public int reserved() {
+        return sum(RESERVED);
+    }
+
+    private int sum(int field) {
+        long total = 0;
+        for (int slice = 0; slice < sliceCount; slice++) {
+            total += slices.get(indexOf(slice, field));
+        }
+        return (int) total;
+    }
+}
@@ -0,0 +1,17 @@
+package store.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryMemberShipLedger implements MemberShipLedger {
+    private final Map<String, MemberShipCap> caps = new ConcurrentHashMap<>();
+
+    // 같은 회원은 요청마다 같은 한도를 나눠 쓴다
+    @Override
+    public MemberShip memberShipOf(String memberId) {
+        if (memberId == null || memberId.isBlank()) {
+            throw new IllegalArgumentException(DomainErrorMessage.INVALID_MEMBER_ID.getMessage());
+        }
+        return new MemberShip(caps.computeIfAbsent(memberId, ignored -> new MemberShipCap(MemberShip.ELIGIBLE_AMOUNT)));
+    }
+}
@@ -0,0 +1,16 @@
+package store.domain;
+
+@FunctionalInterface
+public interface InventorySnapshots {
+    // 읽는 쪽은 고정된 한 버전을 잠금 없이 본다
+    ProductRepository pin();
+
+    default String renderListing() {
+        return pin().toString();
+    }
+
+    // 목록을 캐시하지 않는 구현은 집계할 것이 없다
+    default ListingStats getListingStats() {
+        return ListingStats.NONE;
+    }
+}
@@ -0,0 +1,4 @@
+package store.domain;
+
+public record LineConflict(String productName, int requestedQuantity, int availableQuantity) {
+}
@@ -0,0 +1,17 @@
+package store.domain;
+
+public record LinePlan(String productName, int quantity, int unitPrice, boolean promotionApplied,
+                       int promotionStock, int promotedCount, int fallbackCount, int normalPrice,
+                       boolean unclaimedFreeItem) {
+    public int totalPrice() {
+        return unitPrice * quantity;
+    }
+
+    public int promotionDiscount() {
+        return promotedCount * unitPrice;
+    }
+
+    public boolean hasFallbackToNormal() {
+        return promotionApplied && fallbackCount > 0;
+    }
+}
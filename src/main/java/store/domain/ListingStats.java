@@ -0,0 +1,5 @@
+package store.domain;
+
+public record ListingStats(long hits, long misses, long renderedRows, long renderNanos) {
+    public static final ListingStats NONE = new ListingStats(0, 0, 0, 0);
+}
@@ -1,22 +1,38 @@
 package store.domain;
 
 public class MemberShip {
+    public static final int ELIGIBLE_AMOUNT = 8_000;
+    public static final MemberShip NONE = new MemberShip(new MemberShipCap(0));
     private static final double DISCOUNT_RATE = 0.3;
-    private int eligibleAmount = 8_000;
+
+    private final MemberShipCap cap;
+
+    public MemberShip() {
+        this(new MemberShipCap(ELIGIBLE_AMOUNT));
+    }
+
+    public MemberShip(MemberShipCap cap) {
+        this.cap = cap;
+    }
 
     public int applyDiscount(Order order) {
-        int normalProductPrice = order.getNormalProductPrice();
-        int discountAmount = (int) (normalProductPrice * DISCOUNT_RATE);
-        return calculate(discountAmount);
+        return applyDiscount(order.getTotals());
     }
 
-    private int calculate(int discountAmount) {
-        if (discountAmount > eligibleAmount) {
-            discountAmount = eligibleAmount;
-        }
+    public int applyDiscount(OrderTotals totals) {
+        return cap.claim(calculateDiscount(totals.normalProductPrice()));
+    }
+
+    // 한도를 쓰지 않고 지금 적용될 할인 금액만 계산한다
+    public int previewDiscount(int normalProductPrice) {
+        return Math.min(calculateDiscount(normalProductPrice), cap.getRemaining());
+    }
 
-        eligibleAmount = Math.max(eligibleAmount - discountAmount, 0);
+    private static int calculateDiscount(int normalProductPrice) {
+        return (int) (normalProductPrice * DISCOUNT_RATE);
+    }
 
-        return discountAmount;
+    public int getRemainingAmount() {
+        return cap.getRemaining();
     }
 }
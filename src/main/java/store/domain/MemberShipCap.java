@@ -0,0 +1,36 @@
+package store.domain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MemberShipCap {
+    private final AtomicInteger remaining;
+    private final Runnable onClaim;
+
+    public MemberShipCap(int remaining) {
+        this(remaining, () -> {
+        });
+    }
+
+    public MemberShipCap(int remaining, Runnable onClaim) {
+        this.remaining = new AtomicInteger(remaining);
+        this.onClaim = onClaim;
+    }
+
+    public int claim(int requestedAmount) {
+        while (true) {
+            int current = remaining.get();
+            int granted = Math.min(Math.max(requestedAmount, 0), current);
+            if (granted == 0) {
+                return 0;
+            }
+            if (remaining.compareAndSet(current, current - granted)) {
+                onClaim.run();
+                return granted;
+            }
+        }
+    }
+
+    public int getRemaining() {
+        return remaining.get();
+    }
+}
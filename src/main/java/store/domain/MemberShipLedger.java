@@ -0,0 +1,9 @@
+package store.domain;
+
+@FunctionalInterface
+public interface MemberShipLedger {
+    // 회원 정보를 보관하지 않으므로 어떤 회원에게도 할인 한도를 내주지 않는다
+    MemberShipLedger NONE = memberId -> MemberShip.NONE;
+
+    MemberShip memberShipOf(String memberId);
+}
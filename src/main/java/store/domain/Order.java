@@ -1,14 +1,21 @@
 package store.domain;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class Order {
     private final List<OrderProduct> requestedOrderProducts;
+    private Reservation reservation = Reservation.NONE;
+    private OrderTotals totals;
 
     public Order(List<OrderProduct> requestedOrderProducts) {
         validate(requestedOrderProducts);
         this.requestedOrderProducts = requestedOrderProducts;
+        requestedOrderProducts.forEach(orderProduct -> orderProduct.onPlanChanged(() -> totals = null));
     }
 
     private void validate(List<OrderProduct> orderProducts) {
@@ -26,6 +33,10 @@ public class Order {
         return List.copyOf(requestedOrderProducts);
     }
 
+    public List<LinePlan> getLinePlans() {
+        return requestedOrderProducts.stream().map(OrderProduct::getPlan).toList();
+    }
+
     public List<OrderProduct> getUnclaimedFreeItemOrder() {
         return requestedOrderProducts.stream().filter(OrderProduct::hasUnclaimedFreeItem).toList();
     }
@@ -34,28 +45,103 @@ public class Order {
         return requestedOrderProducts.stream().filter(each -> each.calculatePromotedCount() > 0).toList();
     }
 
+    public OrderTotals getTotals() {
+        if (totals == null) {
+            totals = OrderTotals.of(requestedOrderProducts);
+        }
+        return totals;
+    }
+
     public int getTotalPrice() {
-        return requestedOrderProducts.stream().mapToInt(OrderProduct::getTotalPrice).sum();
+        return getTotals().totalPrice();
     }
 
     public int getPromotionDiscount() {
-        return getPromotedOrders().stream().mapToInt(order -> order.calculatePromotedCount() * order.getProductPrice())
-                .sum();
+        return getTotals().promotionDiscount();
     }
 
     public int getTotalQuantity() {
-        return requestedOrderProducts.stream().mapToInt(OrderProduct::getQuantity).sum();
+        return getTotals().totalQuantity();
     }
 
     public int getNormalProductPrice() {
-        return requestedOrderProducts.stream().mapToInt(OrderProduct::calculateNormalProductPrice).sum();
+        return getTotals().normalProductPrice();
     }
 
     public List<OrderProduct> getFallBackToNormalOrders() {
         return requestedOrderProducts.stream().filter(each -> each.countFallbackToNormal() > 0).toList();
     }
 
-    public void decreaseAmount() {
-        requestedOrderProducts.forEach(OrderProduct::decreaseStocks);
+    public List<StockDecrement> decreaseAmount() {
+        CommitResult result = commit();
+        if (!result.isCommitted()) {
+            throw new IllegalArgumentException(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+        }
+        return result.decrements();
+    }
+
+    public Reservation reserve(Duration timeToLive) {
+        Reservation placed = StockLocks.withLocks(getStockLots(), () -> reserveLocked(timeToLive));
+        requestedOrderProducts.forEach(orderProduct -> orderProduct.holdWith(placed));
+        reservation = placed;
+        return placed;
+    }
+
+    private Reservation reserveLocked(Duration timeToLive) {
+        Map<Product, Integer> holds = new IdentityHashMap<>();
+        for (OrderProduct orderProduct : requestedOrderProducts) {
+            int remainingQuantity = orderProduct.getQuantity();
+            for (Product lot : orderProduct.getStockLots()) {
+                int shortfall = lot.reserve(remainingQuantity);
+                if (shortfall < remainingQuantity) {
+                    holds.merge(lot, remainingQuantity - shortfall, Integer::sum);
+                }
+                remainingQuantity = shortfall;
+            }
+            if (remainingQuantity > 0) {
+                holds.forEach(Product::release);
+                throw new IllegalArgumentException(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+            }
+        }
+        return Reservation.hold(holds, timeToLive);
+    }
+
+    public CommitResult commit() {
+        return StockLocks.withLocks(getStockLots(), this::commitLocked);
+    }
+
+    private List<Product> getStockLots() {
+        return requestedOrderProducts.stream()
+                .flatMap(orderProduct -> orderProduct.getStockLots().stream())
+                .toList();
+    }
+
+    private CommitResult commitLocked() {
+        // 잠금을 쥔 채로 예약을 풀어야 다른 주문이 그 사이에 재고를 가져가지 못한다.
+        reservation.release();
+        List<LineConflict> conflicts = requestedOrderProducts.stream()
+                .map(OrderProduct::findConflict)
+                .flatMap(Optional::stream)
+                .toList();
+        if (!conflicts.isEmpty()) {
+            return CommitResult.conflicted(conflicts);
+        }
+
+        List<StockDecrement> decrements = new ArrayList<>();
+        List<LineConflict> shortfalls = new ArrayList<>();
+        for (OrderProduct orderProduct : requestedOrderProducts) {
+            List<StockDecrement> lineDecrements = orderProduct.decreaseStocks();
+            decrements.addAll(lineDecrements);
+            int taken = lineDecrements.stream().mapToInt(StockDecrement::quantity).sum();
+            if (taken < orderProduct.getQuantity()) {
+                shortfalls.add(new LineConflict(orderProduct.getProductName(), orderProduct.getQuantity(), taken));
+            }
+        }
+        if (shortfalls.isEmpty()) {
+            return CommitResult.committed(decrements);
+        }
+        // 같은 상품이 여러 줄에 있거나 잠금 밖에서 재고가 줄어든 경우이므로 이미 차감한 재고를 되돌린다.
+        decrements.forEach(decrement -> decrement.product().adjustQuantity(decrement.quantity()));
+        return CommitResult.conflicted(shortfalls);
     }
 }
@@ -1,19 +1,34 @@
 package store.domain;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class OrderProduct {
     private final List<Product> products;
-    private final LocalDateTime orderDate;
+    private final PromotionDay promotionDay;
+    private final List<Product> promotionProducts;
+    private final Optional<Product> promotionProduct;
+    private final Optional<Product> normalProduct;
     private int quantity;
+    private Reservation reservation = Reservation.NONE;
+    private LinePlan plan;
+    private Runnable planListener = () -> {
+    };
 
     public OrderProduct(List<Product> products, int quantity, LocalDateTime orderDate) {
-        this.orderDate = orderDate;
+        this(products, quantity, PromotionDay.of(products, orderDate));
+    }
+
+    public OrderProduct(List<Product> products, int quantity, PromotionDay promotionDay) {
+        this.promotionDay = promotionDay;
         validateDifferentProducts(products);
         this.products = products;
         this.quantity = quantity;
+        this.promotionProducts = products.stream().filter(each -> each.promotionExists(promotionDay)).toList();
+        this.promotionProduct = promotionProducts.stream().findFirst();
+        this.normalProduct = products.stream().filter(product -> !product.promotionExists(promotionDay)).findFirst();
     }
 
     private static void validateDifferentProducts(List<Product> stocks) {
@@ -26,36 +41,71 @@ public class OrderProduct {
 
     public void addQuantity() {
         this.quantity++;
+        invalidatePlan();
     }
 
     public void subtract(int amount) {
         this.quantity -= amount;
+        invalidatePlan();
+    }
+
+    OrderProduct copy() {
+        return new OrderProduct(products, quantity, promotionDay);
+    }
+
+    void changeQuantity(int quantity) {
+        this.quantity = quantity;
+        invalidatePlan();
+    }
+
+    private void invalidatePlan() {
+        this.plan = null;
+        planListener.run();
+    }
+
+    void onPlanChanged(Runnable planListener) {
+        this.planListener = planListener;
+    }
+
+    // 수량이나 예약이 바뀔 때만 다시 계산하고, 그 사이에는 같은 계획을 읽는다
+    public LinePlan getPlan() {
+        if (plan == null) {
+            plan = resolvePlan();
+        }
+        return plan;
+    }
+
+    private LinePlan resolvePlan() {
+        int promotionStock = promotionProducts.stream().mapToInt(this::visibleQuantityOf).sum();
+        int fallbackCount = Math.max(quantity - promotionStock, 0);
+        int promotedCount = promotionProduct
+                .map(product -> product.getPromotedCount(quantity, visibleQuantityOf(product)))
+                .orElse(0);
+        int normalPrice = normalProduct.map(product -> product.getPrice() * fallbackCount).orElse(0);
+        boolean unclaimedFreeItem = products.stream()
+                .anyMatch(product -> product.hasUnclaimedFreeItem(quantity, visibleQuantityOf(product), promotionDay));
+        return new LinePlan(getProductName(), quantity, getProductPrice(), promotionProduct.isPresent(),
+                promotionStock, promotedCount, fallbackCount, normalPrice, unclaimedFreeItem);
     }
 
     public int countFallbackToNormal() {
-        int promotionStock = getPromotionStock();
-        return Math.max(quantity - promotionStock, 0);
+        return getPlan().fallbackCount();
     }
 
     public int calculateNormalProductPrice() {
-        Optional<Product> normalProduct = getNormalProduct();
-        return normalProduct.map(product -> product.getPrice() * getNormalProductQuantity()).orElse(0);
+        return getPlan().normalPrice();
     }
 
     public int calculatePromotedCount() {
-        Optional<Product> promotionProduct = getPromotionProduct();
-        return promotionProduct.map(product -> product.getPromotedCount(quantity)).orElse(0);
+        return getPlan().promotedCount();
     }
 
     public boolean hasUnclaimedFreeItem() {
-        return products.stream().anyMatch(product -> product.hasUnclaimedFreeItem(quantity, orderDate));
+        return getPlan().unclaimedFreeItem();
     }
 
     public boolean hasFallbackToNormal() {
-        if (getPromotionProduct().isEmpty()) {
-            return false;
-        }
-        return quantity > getPromotionStock();
+        return getPlan().hasFallbackToNormal();
     }
 
     public boolean hasEnoughStock() {
@@ -67,11 +117,11 @@ public class OrderProduct {
     }
 
     public int getTotalAvailableQuantity() {
-        return products.stream().mapToInt(Product::getQuantity).sum();
+        return products.stream().mapToInt(this::visibleQuantityOf).sum();
     }
 
     public int getPromotionStock() {
-        return products.stream().filter(each -> each.promotionExists(orderDate)).mapToInt(Product::getQuantity).sum();
+        return getPlan().promotionStock();
     }
 
     public String getProductName() {
@@ -79,36 +129,54 @@ public class OrderProduct {
     }
 
     public int getTotalPrice() {
-        return getProductPrice() * quantity;
+        return getPlan().totalPrice();
     }
 
     public int getQuantity() {
         return quantity;
     }
 
-    public void decreaseStocks() {
-        int remainingQuantity = decreasePromotionAmount(quantity);
-        decreaseNormalAmount(remainingQuantity);
+    public List<StockDecrement> decreaseStocks() {
+        List<StockDecrement> decrements = new ArrayList<>();
+        int remainingQuantity = quantity;
+        for (Product product : getStockLots()) {
+            remainingQuantity = decrease(product, remainingQuantity, decrements);
+        }
+        return decrements;
     }
 
-    private int decreasePromotionAmount(int quantity) {
-        Optional<Product> promotionProduct = getPromotionProduct();
-        return promotionProduct.map(product -> product.decrease(quantity)).orElse(quantity);
+    private static int decrease(Product product, int quantity, List<StockDecrement> decrements) {
+        if (quantity <= 0) {
+            return quantity;
+        }
+        int remaining = product.decrease(quantity);
+        if (remaining < quantity) {
+            decrements.add(new StockDecrement(product, quantity - remaining));
+        }
+        return remaining;
     }
 
-    private void decreaseNormalAmount(int remainingQuantity) {
-        getNormalProduct().ifPresent(product -> product.decrease(remainingQuantity));
+    void holdWith(Reservation reservation) {
+        this.reservation = reservation;
+        invalidatePlan();
     }
 
-    private Optional<Product> getPromotionProduct() {
-        return products.stream().filter(each -> each.promotionExists(orderDate)).findFirst();
+    private int visibleQuantityOf(Product product) {
+        return product.getQuantity() + reservation.heldQuantity(product);
     }
 
-    private Optional<Product> getNormalProduct() {
-        return products.stream().filter(product -> !product.promotionExists(orderDate)).findFirst();
+    Optional<LineConflict> findConflict() {
+        int availableQuantity = getTotalAvailableQuantity();
+        if (availableQuantity >= quantity) {
+            return Optional.empty();
+        }
+        return Optional.of(new LineConflict(getProductName(), quantity, availableQuantity));
     }
 
-    private int getNormalProductQuantity() {
-        return Math.max(quantity - getPromotionStock(), 0);
+    List<Product> getStockLots() {
+        List<Product> lots = new ArrayList<>(products.size());
+        promotionProduct.ifPresent(lots::add);
+        products.stream().filter(product -> !lots.contains(product)).forEach(lots::add);
+        return lots;
     }
 }
@@ -0,0 +1,33 @@
+package store.domain;
+
+import java.util.List;
+
+public record OrderTotals(int totalPrice, int promotionDiscount, int totalQuantity, int normalProductPrice) {
+    static final OrderTotals EMPTY = new OrderTotals(0, 0, 0, 0);
+
+    // 줄이 수천 개여도 한 번의 반복으로 모든 합계를 구한다
+    static OrderTotals of(List<OrderProduct> orderProducts) {
+        int totalPrice = 0;
+        int promotionDiscount = 0;
+        int totalQuantity = 0;
+        int normalProductPrice = 0;
+        for (int index = 0; index < orderProducts.size(); index++) {
+            LinePlan plan = orderProducts.get(index).getPlan();
+            totalPrice += plan.totalPrice();
+            promotionDiscount += plan.promotionDiscount();
+            totalQuantity += plan.quantity();
+            normalProductPrice += plan.normalPrice();
+        }
+        return new OrderTotals(totalPrice, promotionDiscount, totalQuantity, normalProductPrice);
+    }
+
+    OrderTotals plus(LinePlan plan) {
+        return new OrderTotals(totalPrice + plan.totalPrice(), promotionDiscount + plan.promotionDiscount(),
+                totalQuantity + plan.quantity(), normalProductPrice + plan.normalPrice());
+    }
+
+    OrderTotals minus(LinePlan plan) {
+        return new OrderTotals(totalPrice - plan.totalPrice(), promotionDiscount - plan.promotionDiscount(),
+                totalQuantity - plan.quantity(), normalProductPrice - plan.normalPrice());
+    }
+}
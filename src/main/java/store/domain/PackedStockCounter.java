@@ -0,0 +1,103 @@
+package store.domain;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+final class PackedStockCounter implements StockCounter {
+    private static final VarHandle STOCK;
+    private static final long RESERVED_MASK = 0xFFFF_FFFFL;
+
+    static {
+        try {
+            STOCK = MethodHandles.lookup().findVarHandle(PackedStockCounter.class, "stock", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // 상위 32비트는 실제 재고, 하위 32비트는 예약된 재고라 한 번의 CAS로 둘을 함께 바꾼다.
+    private volatile long stock;
+
+    PackedStockCounter(int onHandQuantity, int reservedQuantity) {
+        this.stock = pack(onHandQuantity, reservedQuantity);
+    }
+
+    private static long pack(int onHandQuantity, int reservedQuantity) {
+        return ((long) onHandQuantity << Integer.SIZE) | (reservedQuantity & RESERVED_MASK);
+    }
+
+    private static int onHandOf(long stock) {
+        return (int) (stock >> Integer.SIZE);
+    }
+
+    private static int reservedOf(long stock) {
+        return (int) (stock & RESERVED_MASK);
+    }
+
+    private static int availableOf(long stock) {
+        return onHandOf(stock) - reservedOf(stock);
+    }
+
+    @Override
+    public int take(int quantity) {
+        long previousStock;
+        int taken;
+        do {
+            previousStock = stock;
+            taken = Math.min(availableOf(previousStock), quantity);
+        } while (!STOCK.compareAndSet(this, previousStock,
+                pack(onHandOf(previousStock) - taken, reservedOf(previousStock))));
+        return taken;
+    }
+
+    @Override
+    public int reserve(int quantity) {
+        long previousStock;
+        int taken;
+        do {
+            previousStock = stock;
+            taken = Math.min(availableOf(previousStock), quantity);
+        } while (!STOCK.compareAndSet(this, previousStock,
+                pack(onHandOf(previousStock), reservedOf(previousStock) + taken)));
+        return taken;
+    }
+
+    @Override
+    public int release(int quantity) {
+        long previousStock;
+        int released;
+        do {
+            previousStock = stock;
+            released = Math.min(reservedOf(previousStock), quantity);
+        } while (!STOCK.compareAndSet(this, previousStock,
+                pack(onHandOf(previousStock), reservedOf(previousStock) - released)));
+        return released;
+    }
+
+    @Override
+    public int adjust(int delta) {
+        long previousStock;
+        int adjustedOnHand;
+        do {
+            previousStock = stock;
+            int reservedQuantity = reservedOf(previousStock);
+            adjustedOnHand = Math.max(onHandOf(previousStock) + delta, reservedQuantity);
+        } while (!STOCK.compareAndSet(this, previousStock, pack(adjustedOnHand, reservedOf(previousStock))));
+        return adjustedOnHand - onHandOf(previousStock);
+    }
+
+    @Override
+    public int available() {
+        return availableOf(stock);
+    }
+
+    @Override
+    public int reserved() {
+        return reservedOf(stock);
+    }
+
+    @Override
+    public int onHand() {
+        return onHandOf(stock);
+    }
+}
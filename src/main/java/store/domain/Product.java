@@ -1,7 +1,9 @@
 package store.domain;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class Product {
     private static final String OUT_OF_STOCK_MESSAGE = " 재고 없음";
@@ -11,31 +13,93 @@ public final class Product {
     private final String name;
     private final int price;
     private final Promotion promotion;
-    private int quantity;
+    private final Object lockKey;
+    private volatile StockCounter stockCounter;
+    private final List<StockListener> stockListeners = new CopyOnWriteArrayList<>();
+    private volatile Product relisted;
 
     public Product(String name, int price, int quantity, Promotion promotion) {
+        this(name, price, promotion, new PackedStockCounter(quantity, 0), new Object());
+    }
+
+    private Product(String name, int price, Promotion promotion, StockCounter stockCounter, Object lockKey) {
         this.name = name;
         this.price = price;
-        this.quantity = quantity;
+        this.stockCounter = stockCounter;
+        this.lockKey = lockKey;
         this.promotion = promotion;
     }
 
-    public int decrease(int purchaseQuantity) {
-        if (quantity >= purchaseQuantity) {
-            quantity -= purchaseQuantity;
-            return 0;
+    // 가격이나 프로모션만 바뀐 묶음은 재고 카운터와 잠금을 공유하고, 이전 인스턴스로 들어온 차감도 새 묶음의 리스너로 보낸다
+    public Product relist(int price, Promotion promotion) {
+        Product relistedProduct = new Product(name, price, promotion, stockCounter, lockKey);
+        this.relisted = relistedProduct;
+        return relistedProduct;
+    }
+
+    public void addStockListener(StockListener stockListener) {
+        stockListeners.add(stockListener);
+    }
+
+    public void removeStockListener(StockListener stockListener) {
+        stockListeners.remove(stockListener);
+    }
+
+    // 에스크로로 바꾼 묶음도 주문 확정 때는 줄무늬 잠금을 그대로 잡는다. 여러 묶음에 걸친 주문을 한꺼번에 확정하거나
+    // 되돌려야 하고, InventoryVersions 가 잠금을 풀기 직전에 버전을 발행해야 묶음 사이에 어긋나지 않은 재고를 보여 준다.
+    // 그래서 한 묶음의 확정은 여전히 직렬화되고, 에스크로의 이득은 잠금 안의 카운터 갱신이 스레드마다 다른 캐시 라인에 떨어지는 데 그친다.
+    public void useEscrow(int sliceCount) {
+        if (sliceCount <= 0) {
+            throw new IllegalArgumentException(DomainErrorMessage.INVALID_SLICE_COUNT.getMessage());
         }
+        StockCounter current = stockCounter;
+        stockCounter = new EscrowStockCounter(current.onHand(), current.reserved(), sliceCount);
+    }
 
-        int remaining = purchaseQuantity - quantity;
-        quantity = 0;
-        return remaining;
+    public int decrease(int purchaseQuantity) {
+        int taken = stockCounter.take(purchaseQuantity);
+        notifyStockChanged(taken);
+        return purchaseQuantity - taken;
     }
 
-    public int getPromotedCount(int orderQuantity) {
-        if (orderQuantity > quantity) {
-            return promotion.promotionGetCount(quantity);
+    // 입고나 되돌리기는 주문 밖에서도 불리므로 이 묶음의 잠금을 잡고 반영해 진행 중인 주문과 섞이지 않게 한다
+    public void adjustQuantity(int delta) {
+        StockLocks.withLocks(List.of(this), () -> {
+            notifyStockChanged(-stockCounter.adjust(delta));
+            return delta;
+        });
+    }
+
+    public int reserve(int reserveQuantity) {
+        int taken = stockCounter.reserve(reserveQuantity);
+        notifyStockChanged(taken);
+        return reserveQuantity - taken;
+    }
+
+    public void release(int releaseQuantity) {
+        notifyStockChanged(-stockCounter.release(releaseQuantity));
+    }
+
+    private void notifyStockChanged(int removedQuantity) {
+        if (removedQuantity == 0) {
+            return;
+        }
+        Product current = this;
+        while (current.relisted != null) {
+            current = current.relisted;
+        }
+        int previousQuantity = getQuantity() + removedQuantity;
+        for (StockListener stockListener : current.stockListeners) {
+            stockListener.onStockChanged(current, previousQuantity);
         }
-        return promotion.promotionGetCount(orderQuantity);
+    }
+
+    public int getPromotedCount(int orderQuantity) {
+        return getPromotedCount(orderQuantity, getQuantity());
+    }
+
+    public int getPromotedCount(int orderQuantity, int visibleQuantity) {
+        return promotion.promotionGetCount(Math.min(orderQuantity, visibleQuantity));
     }
 
     public boolean promotionExists(LocalDateTime orderDate) {
@@ -46,11 +110,27 @@ public final class Product {
         return !Objects.isNull(promotion);
     }
 
+    public boolean promotionExists(PromotionDay promotionDay) {
+        return promotionNotNull() && promotionDay.isActive(promotion);
+    }
+
     public boolean hasUnclaimedFreeItem(int quantity, LocalDateTime orderDate) {
-        if (!promotionExists(orderDate) || quantity <= 0) {
+        return hasUnclaimedFreeItem(quantity, getQuantity(), orderDate);
+    }
+
+    public boolean hasUnclaimedFreeItem(int quantity, int visibleQuantity, LocalDateTime orderDate) {
+        return promotionExists(orderDate) && hasUnclaimedFreeItem(quantity, visibleQuantity);
+    }
+
+    public boolean hasUnclaimedFreeItem(int quantity, int visibleQuantity, PromotionDay promotionDay) {
+        return promotionExists(promotionDay) && hasUnclaimedFreeItem(quantity, visibleQuantity);
+    }
+
+    private boolean hasUnclaimedFreeItem(int quantity, int visibleQuantity) {
+        if (quantity <= 0) {
             return false;
         }
-        if (quantity >= this.quantity) { // 같다면 무료 증정이 불가하다 (1+1 으로 5개 주문, 재고 5개면 5개 나가야한다.)
+        if (quantity >= visibleQuantity) { // 같다면 무료 증정이 불가하다 (1+1 으로 5개 주문, 재고 5개면 5개 나가야한다.)
             return false;
         }
         return promotion.hasUnclaimedFreeItem(quantity);
@@ -58,14 +138,15 @@ public final class Product {
 
     @Override
     public String toString() {
-        if (quantity > 0) {
-            return formatWithStock();
+        int currentQuantity = getQuantity();
+        if (currentQuantity > 0) {
+            return formatWithStock(currentQuantity);
         }
         return formatOutOfStock();
     }
 
-    private String formatWithStock() {
-        return String.format(WITH_STOCK_FORMAT, MESSAGE_PREFIX + name, price, quantity) + getPromotionInfo();
+    private String formatWithStock(int currentQuantity) {
+        return String.format(WITH_STOCK_FORMAT, MESSAGE_PREFIX + name, price, currentQuantity) + getPromotionInfo();
     }
 
     private String formatOutOfStock() {
@@ -80,15 +161,31 @@ public final class Product {
         return "";
     }
 
+    Object lockKey() {
+        return lockKey;
+    }
+
     public String getName() {
         return name;
     }
 
     public int getQuantity() {
-        return quantity;
+        return stockCounter.available();
+    }
+
+    public int getOnHandQuantity() {
+        return stockCounter.onHand();
+    }
+
+    public int getReservedQuantity() {
+        return stockCounter.reserved();
     }
 
     public int getPrice() {
         return price;
     }
+
+    public Promotion getPromotion() {
+        return promotion;
+    }
 }
@@ -0,0 +1,37 @@
+package store.domain;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ProductRepository {
+    List<Product> findAllByName(String productName);
+
+    Optional<Product> findLot(String productName, boolean promotionLot);
+
+    List<List<Product>> findAllByNames(List<String> productNames);
+
+    List<Product> getStocks();
+
+    // 재고 변경을 알리지 않는 저장소는 리스너를 등록해도 아무 일도 하지 않는다
+    default void addStockListener(StockListener stockListener) {
+    }
+
+    default Stream<Product> streamStocks() {
+        return getStocks().stream();
+    }
+
+    default List<Promotion> getPromotions() {
+        return streamStocks()
+                .map(Product::getPromotion)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    // 상품 구성이 바뀔 때마다 커지는 값이다. 구성이 바뀌지 않는 저장소는 그대로 0 을 돌려준다.
+    default long getCatalogGeneration() {
+        return 0;
+    }
+}
@@ -8,7 +8,12 @@ public record Promotion(String name, int buy, int get, LocalDateTime startDate,
     }
 
     public boolean applicable(LocalDateTime now) {
-        return !now.isBefore(startDate) && !now.isAfter(endDate);
+        return applicable(now.toLocalDate().toEpochDay());
+    }
+
+    // 프로모션 기간은 날짜 단위이므로 종료일 당일은 자정 이후에도 적용된다
+    public boolean applicable(long epochDay) {
+        return startDate.toLocalDate().toEpochDay() <= epochDay && epochDay <= endDate.toLocalDate().toEpochDay();
     }
 
     public int promotionGetCount(int quantity) {
@@ -0,0 +1,67 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class PromotionCalendar {
+    private final List<Promotion> promotions;
+    private final Map<String, Integer> bitsByName = new HashMap<>();
+    private volatile PromotionDay current;
+
+    public PromotionCalendar(List<Promotion> promotions) {
+        this.promotions = promotions.stream().distinct().toList();
+        for (int bit = 0; bit < this.promotions.size(); bit++) {
+            bitsByName.putIfAbsent(this.promotions.get(bit).name(), bit);
+        }
+    }
+
+    public static PromotionCalendar of(List<Product> products) {
+        return of(products.stream());
+    }
+
+    public static PromotionCalendar of(Stream<Product> products) {
+        return new PromotionCalendar(products
+                .map(Product::getPromotion)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    // 같은 날의 주문은 한 번 계산한 비트셋을 공유하고, 자정이 지나 처음 들어온 주문이 다음 날로 넘긴다
+    public PromotionDay dayOf(LocalDateTime orderDate) {
+        long epochDay = orderDate.toLocalDate().toEpochDay();
+        PromotionDay day = current;
+        if (day != null && day.epochDay() == epochDay) {
+            return day;
+        }
+        day = new PromotionDay(this, epochDay, activeOn(epochDay));
+        if (current == null || current.epochDay() < epochDay) {
+            current = day;
+        }
+        return day;
+    }
+
+    private BitSet activeOn(long epochDay) {
+        BitSet active = new BitSet(promotions.size());
+        for (int bit = 0; bit < promotions.size(); bit++) {
+            active.set(bit, promotions.get(bit).applicable(epochDay));
+        }
+        return active;
+    }
+
+    int bitOf(Promotion promotion) {
+        Integer bit = bitsByName.get(promotion.name());
+        if (bit == null) {
+            return -1;
+        }
+        Promotion registered = promotions.get(bit);
+        if (registered != promotion && !registered.equals(promotion)) {
+            return -1;
+        }
+        return bit;
+    }
+}
@@ -0,0 +1,33 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+public class PromotionDay {
+    private final PromotionCalendar calendar;
+    private final long epochDay;
+    private final BitSet active;
+
+    PromotionDay(PromotionCalendar calendar, long epochDay, BitSet active) {
+        this.calendar = calendar;
+        this.epochDay = epochDay;
+        this.active = active;
+    }
+
+    public static PromotionDay of(List<Product> products, LocalDateTime orderDate) {
+        return PromotionCalendar.of(products).dayOf(orderDate);
+    }
+
+    public boolean isActive(Promotion promotion) {
+        int bit = calendar.bitOf(promotion);
+        if (bit < 0) { // 달력을 만든 뒤 새로 들어온 프로모션은 기간을 직접 비교한다
+            return promotion.applicable(epochDay);
+        }
+        return active.get(bit);
+    }
+
+    public long epochDay() {
+        return epochDay;
+    }
+}
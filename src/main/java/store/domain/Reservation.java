@@ -0,0 +1,73 @@
+package store.domain;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class Reservation implements Delayed {
+    public static final Reservation NONE = new Reservation(Map.of(), 0);
+
+    private final Map<Product, Integer> holds;
+    private final long expiresAtNanos;
+    private final AtomicBoolean active;
+    private volatile Runnable releaseAction = () -> {
+    };
+
+    private Reservation(Map<Product, Integer> holds, long expiresAtNanos) {
+        this.holds = holds;
+        this.expiresAtNanos = expiresAtNanos;
+        this.active = new AtomicBoolean(!holds.isEmpty());
+    }
+
+    static Reservation hold(Map<Product, Integer> holds, Duration timeToLive) {
+        Map<Product, Integer> copiedHolds = new IdentityHashMap<>(holds);
+        return new Reservation(Collections.unmodifiableMap(copiedHolds), System.nanoTime() + timeToLive.toNanos());
+    }
+
+    public int heldQuantity(Product product) {
+        if (!active.get()) {
+            return 0;
+        }
+        return holds.getOrDefault(product, 0);
+    }
+
+    public boolean release() {
+        if (!active.compareAndSet(true, false)) {
+            return false;
+        }
+        // 만료로 풀 때도 주문과 같은 잠금 아래에서 풀어야 여러 묶음의 예약이 한 번에 풀린 것으로 보인다
+        StockLocks.withLocks(List.copyOf(holds.keySet()), () -> {
+            holds.forEach(Product::release);
+            return true;
+        });
+        releaseAction.run();
+        return true;
+    }
+
+    // 확정이나 만료로 풀리면 한 번 실행한다. 이미 풀린 예약이면 바로 실행한다.
+    public void whenReleased(Runnable action) {
+        releaseAction = action;
+        if (!active.get()) {
+            action.run();
+        }
+    }
+
+    public boolean isActive() {
+        return active.get();
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(expiresAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
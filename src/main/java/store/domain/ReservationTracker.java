@@ -0,0 +1,9 @@
+package store.domain;
+
+@FunctionalInterface
+public interface ReservationTracker {
+    ReservationTracker NONE = reservation -> {
+    };
+
+    void track(Reservation reservation);
+}
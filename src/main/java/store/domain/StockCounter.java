@@ -0,0 +1,19 @@
+package store.domain;
+
+interface StockCounter {
+    int take(int quantity);
+
+    int reserve(int quantity);
+
+    int release(int quantity);
+
+    int adjust(int delta);
+
+    int available();
+
+    int reserved();
+
+    default int onHand() {
+        return available() + reserved();
+    }
+}
@@ -0,0 +1,4 @@
+package store.domain;
+
+public record StockDecrement(Product product, int quantity) {
+}
@@ -0,0 +1,16 @@
+package store.domain;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@FunctionalInterface
+public interface StockJournal {
+    StockJournal NONE = mutation -> CompletableFuture.completedFuture(mutation.get());
+
+    CompletableFuture<List<StockDecrement>> append(Supplier<List<StockDecrement>> mutation);
+
+    default List<StockDecrement> record(Supplier<List<StockDecrement>> mutation) {
+        return append(mutation).join();
+    }
+}
@@ -0,0 +1,9 @@
+package store.domain;
+
+@FunctionalInterface
+public interface StockListener {
+    StockListener NONE = (product, previousQuantity) -> {
+    };
+
+    void onStockChanged(Product product, int previousQuantity);
+}
@@ -0,0 +1,69 @@
+package store.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public final class StockLocks {
+    private static final int STRIPE_COUNT = 1024;
+    private static final ReentrantLock[] STRIPES = new ReentrantLock[STRIPE_COUNT];
+    private static final ThreadLocal<List<Runnable>> BEFORE_UNLOCK = new ThreadLocal<>();
+
+    static {
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            STRIPES[index] = new ReentrantLock();
+        }
+    }
+
+    private StockLocks() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static <T> T withLocks(List<Product> products, Supplier<T> action) {
+        // 항상 오름차순으로 잠가야 두 주문이 서로의 잠금을 기다리는 교착이 생기지 않는다.
+        int[] stripes = products.stream().mapToInt(StockLocks::stripeOf).distinct().sorted().toArray();
+        int locked = 0;
+        boolean outermost = BEFORE_UNLOCK.get() == null;
+        try {
+            for (int stripe : stripes) {
+                STRIPES[stripe].lock();
+                locked++;
+            }
+            if (outermost) {
+                BEFORE_UNLOCK.set(new ArrayList<>());
+            }
+            return action.get();
+        } finally {
+            if (outermost) {
+                runBeforeUnlock();
+            }
+            for (int index = locked - 1; index >= 0; index--) {
+                STRIPES[stripes[index]].unlock();
+            }
+        }
+    }
+
+    // 잠금 구간 안에서 부르면 가장 바깥 구간이 잠금을 풀기 직전에, 구간 밖에서 부르면 바로 실행한다
+    public static void beforeUnlock(Runnable action) {
+        List<Runnable> actions = BEFORE_UNLOCK.get();
+        if (actions == null) {
+            action.run();
+            return;
+        }
+        actions.add(action);
+    }
+
+    private static void runBeforeUnlock() {
+        List<Runnable> actions = BEFORE_UNLOCK.get();
+        BEFORE_UNLOCK.remove();
+        if (actions != null) {
+            actions.forEach(Runnable::run);
+        }
+    }
+
+    private static int stripeOf(Product product) {
+        int hash = System.identityHashCode(product.lockKey());
+        return (hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1);
+    }
+}
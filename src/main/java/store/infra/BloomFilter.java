@@ -0,0 +1,70 @@
+package store.infra;
+
+import java.nio.ByteBuffer;
+
+class BloomFilter {
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASH_COUNT = 7;
+
+    private final long[] words;
+    private final int hashCount;
+
+    private BloomFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter withExpectedEntries(int expectedEntries) {
+        long bitCount = Math.max(Long.SIZE, (long) expectedEntries * BITS_PER_ENTRY);
+        return new BloomFilter(new long[(int) ((bitCount + Long.SIZE - 1) / Long.SIZE)], HASH_COUNT);
+    }
+
+    static BloomFilter read(ByteBuffer buffer) {
+        int hashCount = buffer.getInt();
+        long[] words = new long[buffer.getInt()];
+        buffer.asLongBuffer().get(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+        return new BloomFilter(words, hashCount);
+    }
+
+    void add(String value) {
+        long bitCount = (long) words.length * Long.SIZE;
+        int firstHash = value.hashCode();
+        int secondHash = secondHash(firstHash);
+        for (int index = 0; index < hashCount; index++) {
+            long bit = Math.floorMod(firstHash + (long) index * secondHash, bitCount);
+            words[(int) (bit / Long.SIZE)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String value) {
+        long bitCount = (long) words.length * Long.SIZE;
+        int firstHash = value.hashCode();
+        int secondHash = secondHash(firstHash);
+        for (int index = 0; index < hashCount; index++) {
+            long bit = Math.floorMod(firstHash + (long) index * secondHash, bitCount);
+            if ((words[(int) (bit / Long.SIZE)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int secondHash(int hash) {
+        int mixed = hash * 0x85EBCA6B;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xC2B2AE35;
+        return (mixed ^ (mixed >>> 16)) | 1;
+    }
+
+    int serializedSize() {
+        return Integer.BYTES * 2 + words.length * Long.BYTES;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(hashCount).putInt(words.length);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package store.infra;
+
+public record CacheStats(long hits, long misses, long evictions, long bloomRejections) {
+}
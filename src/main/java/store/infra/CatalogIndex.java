@@ -0,0 +1,74 @@
+package store.infra;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import store.domain.Product;
+import store.domain.StockListener;
+
+public class CatalogIndex implements StockListener {
+    private final int lowStockThreshold;
+    private final Map<String, List<Product>> productsByPromotion = new HashMap<>();
+    private final NavigableMap<Integer, List<Product>> productsByPrice = new TreeMap<>();
+    private final Set<Product> outOfStock = ConcurrentHashMap.newKeySet();
+    private final Set<Product> lowStock = ConcurrentHashMap.newKeySet();
+
+    public CatalogIndex(List<Product> stocks, int lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+        stocks.forEach(this::index);
+    }
+
+    private void index(Product product) {
+        if (product.promotionNotNull()) {
+            productsByPromotion.computeIfAbsent(product.getPromotion().name(), name -> new ArrayList<>()).add(product);
+        }
+        productsByPrice.computeIfAbsent(product.getPrice(), price -> new ArrayList<>()).add(product);
+        updateStockStatus(product);
+    }
+
+    @Override
+    public void onStockChanged(Product product, int previousQuantity) {
+        updateStockStatus(product);
+    }
+
+    private void updateStockStatus(Product product) {
+        int quantity = product.getQuantity();
+        updateMembership(outOfStock, product, quantity == 0);
+        updateMembership(lowStock, product, quantity > 0 && quantity <= lowStockThreshold);
+    }
+
+    private static void updateMembership(Set<Product> products, Product product, boolean member) {
+        if (member) {
+            products.add(product);
+            return;
+        }
+        products.remove(product);
+    }
+
+    public List<Product> findAllByPromotion(String promotionName) {
+        return List.copyOf(productsByPromotion.getOrDefault(promotionName, List.of()));
+    }
+
+    public List<Product> findAllByPriceBetween(int minPrice, int maxPrice) {
+        if (minPrice > maxPrice) {
+            return List.of();
+        }
+        return productsByPrice.subMap(minPrice, true, maxPrice, true).values().stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    public List<Product> findOutOfStock() {
+        return List.copyOf(outOfStock);
+    }
+
+    public List<Product> findLowStock() {
+        return List.copyOf(lowStock);
+    }
+}
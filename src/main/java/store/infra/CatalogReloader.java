@@ -0,0 +1,190 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import store.domain.Product;
+import store.infra.loader.ProductLoader;
+import store.infra.loader.PromotionLoader;
+
+public class CatalogReloader implements AutoCloseable {
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final FilerLoaderProductRepository repository;
+    private final Supplier<List<Product>> catalogSource;
+    private final Set<Path> watchedFiles;
+    private final Consumer<String> reloadFailureHandler;
+    private final Map<LotKey, Integer> baselineQuantities = new HashMap<>();
+    private WatchService watchService;
+    private Thread watcher;
+
+    public CatalogReloader(FilerLoaderProductRepository repository, Consumer<String> reloadFailureHandler) {
+        this(repository, FilerLoaderProductRepository::loadStocksFromText,
+                List.of(Paths.get(ProductLoader.FILE_PATH), Paths.get(PromotionLoader.FILE_PATH)),
+                reloadFailureHandler);
+    }
+
+    public CatalogReloader(FilerLoaderProductRepository repository, Supplier<List<Product>> catalogSource,
+                           List<Path> watchedFiles) {
+        this(repository, catalogSource, watchedFiles, message -> {
+        });
+    }
+
+    public CatalogReloader(FilerLoaderProductRepository repository, Supplier<List<Product>> catalogSource,
+                           List<Path> watchedFiles, Consumer<String> reloadFailureHandler) {
+        this.repository = repository;
+        this.catalogSource = catalogSource;
+        this.watchedFiles = watchedFiles.stream()
+                .map(path -> path.toAbsolutePath().normalize())
+                .collect(Collectors.toUnmodifiableSet());
+        this.reloadFailureHandler = reloadFailureHandler;
+        // 기준은 기동할 때 스냅샷이나 파일에서 읽은 수량이다. 복구된 재고로 잡으면 장애 전에 팔린 수량이 입고로 보이고,
+        // 여기서 텍스트 파일을 다시 파싱하면 스냅샷으로 빨리 기동한 의미가 없어진다.
+        repository.getLoadedStocks()
+                .forEach(product -> baselineQuantities.put(LotKey.of(product), product.getQuantity()));
+    }
+
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : watchedDirectories()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_CREATE);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        watcher = new Thread(this::watch, "catalog-reloader");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private Set<Path> watchedDirectories() {
+        return watchedFiles.stream().map(Path::getParent).collect(Collectors.toSet());
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (awaitWatchedFileChange()) {
+                    Thread.sleep(DEBOUNCE_MILLIS);
+                    drainPendingEvents();
+                    reloadQuietly();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 로 감시를 종료했다.
+        }
+    }
+
+    private boolean awaitWatchedFileChange() throws InterruptedException {
+        WatchKey key = watchService.take();
+        Path directory = (Path) key.watchable();
+        boolean changed = key.pollEvents().stream()
+                .map(event -> directory.resolve((Path) event.context()).toAbsolutePath().normalize())
+                .anyMatch(watchedFiles::contains);
+        key.reset();
+        return changed;
+    }
+
+    private void drainPendingEvents() {
+        WatchKey key = watchService.poll();
+        while (key != null) {
+            key.pollEvents();
+            key.reset();
+            key = watchService.poll();
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (IllegalArgumentException e) {
+            reloadFailureHandler.accept(e.getMessage());
+        }
+    }
+
+    public synchronized ReloadSummary reload() {
+        List<Product> fileProducts = catalogSource.get();
+        Map<LotKey, Product> liveLots = new LinkedHashMap<>();
+        repository.getStocks().forEach(product -> liveLots.put(LotKey.of(product), product));
+
+        List<Product> stocks = new ArrayList<>(fileProducts.size());
+        int added = 0;
+        int replaced = 0;
+        int restocked = 0;
+        for (Product fileProduct : fileProducts) {
+            LotKey key = LotKey.of(fileProduct);
+            Product liveProduct = liveLots.remove(key);
+            Integer baselineQuantity = baselineQuantities.put(key, fileProduct.getQuantity());
+            if (liveProduct == null) {
+                stocks.add(fileProduct);
+                added++;
+                continue;
+            }
+            int restockDelta = fileProduct.getQuantity() - Objects.requireNonNullElse(baselineQuantity, 0);
+            if (isSameListing(liveProduct, fileProduct)) {
+                restocked += restock(liveProduct, restockDelta);
+                stocks.add(liveProduct);
+                continue;
+            }
+            Product relisted = liveProduct.relist(fileProduct.getPrice(), fileProduct.getPromotion());
+            restock(relisted, restockDelta);
+            stocks.add(relisted);
+            replaced++;
+        }
+        liveLots.keySet().forEach(baselineQuantities::remove);
+        repository.replaceStocks(stocks);
+        return new ReloadSummary(added, replaced, restocked, liveLots.size());
+    }
+
+    private static boolean isSameListing(Product liveProduct, Product fileProduct) {
+        return liveProduct.getPrice() == fileProduct.getPrice()
+                && Objects.equals(liveProduct.getPromotion(), fileProduct.getPromotion());
+    }
+
+    private static int restock(Product product, int restockDelta) {
+        if (restockDelta == 0) {
+            return 0;
+        }
+        product.adjustQuantity(restockDelta);
+        return 1;
+    }
+
+    @Override
+    public void close() {
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private record LotKey(String name, boolean promotionLot) {
+        private static LotKey of(Product product) {
+            return new LotKey(product.getName(), product.promotionNotNull());
+        }
+    }
+}
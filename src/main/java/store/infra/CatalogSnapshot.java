@@ -0,0 +1,188 @@
+package store.infra;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import store.domain.Product;
+import store.domain.Promotion;
+
+public class CatalogSnapshot {
+    private static final int MAGIC = 0x57434154;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_PROMOTION = -1;
+
+    private final Path path;
+
+    public CatalogSnapshot(Path path) {
+        this.path = path;
+    }
+
+    public Optional<List<Product>> readIfNewerThan(List<Path> sources) {
+        if (!isNewerThan(sources)) {
+            return Optional.empty();
+        }
+        return read();
+    }
+
+    private boolean isNewerThan(List<Path> sources) {
+        try {
+            if (!Files.exists(path)) {
+                return false;
+            }
+            FileTime snapshotTime = Files.getLastModifiedTime(path);
+            for (Path source : sources) {
+                if (!Files.exists(source) || Files.getLastModifiedTime(source).compareTo(snapshotTime) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public Optional<List<Product>> read() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            return Optional.of(readRecords(buffer));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<Product> readRecords(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        Promotion[] promotions = new Promotion[buffer.getInt()];
+        Product[] products = new Product[buffer.getInt()];
+        for (int index = 0; index < strings.length; index++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        for (int index = 0; index < promotions.length; index++) {
+            promotions[index] = new Promotion(strings[buffer.getInt()], buffer.getInt(), buffer.getInt(),
+                    toDateTime(buffer.getLong()), toDateTime(buffer.getLong()));
+        }
+        for (int index = 0; index < products.length; index++) {
+            String name = strings[buffer.getInt()];
+            int price = buffer.getInt();
+            int quantity = buffer.getInt();
+            int promotionIndex = buffer.getInt();
+            Promotion promotion = promotionIndex == NO_PROMOTION ? null : promotions[promotionIndex];
+            products[index] = new Product(name, price, quantity, promotion);
+        }
+        return List.of(products);
+    }
+
+    public boolean write(List<Product> products) {
+        StringTable strings = new StringTable();
+        Map<Promotion, Integer> promotionIndexes = new LinkedHashMap<>();
+        products.stream().filter(Product::promotionNotNull).forEach(product -> {
+            promotionIndexes.putIfAbsent(product.getPromotion(), promotionIndexes.size());
+            strings.intern(product.getPromotion().name());
+        });
+        products.forEach(product -> strings.intern(product.getName()));
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                writeHeader(output, strings, promotionIndexes.size(), products.size());
+                writeStrings(output, strings);
+                writePromotions(output, strings, promotionIndexes);
+                writeProducts(output, strings, promotionIndexes, products);
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void writeHeader(DataOutputStream output, StringTable strings, int promotionCount,
+                                    int productCount) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(strings.size());
+        output.writeInt(promotionCount);
+        output.writeInt(productCount);
+    }
+
+    private static void writeStrings(DataOutputStream output, StringTable strings) throws IOException {
+        for (String value : strings.values()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static void writePromotions(DataOutputStream output, StringTable strings,
+                                        Map<Promotion, Integer> promotionIndexes) throws IOException {
+        for (Promotion promotion : promotionIndexes.keySet()) {
+            output.writeInt(strings.intern(promotion.name()));
+            output.writeInt(promotion.buy());
+            output.writeInt(promotion.get());
+            output.writeLong(toEpochSecond(promotion.startDate()));
+            output.writeLong(toEpochSecond(promotion.endDate()));
+        }
+    }
+
+    private static void writeProducts(DataOutputStream output, StringTable strings,
+                                      Map<Promotion, Integer> promotionIndexes, List<Product> products)
+            throws IOException {
+        for (Product product : products) {
+            output.writeInt(strings.intern(product.getName()));
+            output.writeInt(product.getPrice());
+            output.writeInt(product.getOnHandQuantity());
+            output.writeInt(promotionIndexes.getOrDefault(product.getPromotion(), NO_PROMOTION));
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+        private int intern(String value) {
+            return indexes.computeIfAbsent(value, key -> indexes.size());
+        }
+
+        private int size() {
+            return indexes.size();
+        }
+
+        private List<String> values() {
+            return new ArrayList<>(indexes.keySet());
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package store.infra;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import store.domain.Product;
+import store.domain.ProductRepository;
+import store.domain.Promotion;
+import store.domain.StockListener;
+
+public class DiskBackedProductRepository implements ProductRepository, AutoCloseable {
+    private static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private final SortedCatalogFile catalogFile;
+    private final Map<String, List<Product>> cache;
+    private final Map<String, CompletableFuture<List<Product>>> loadingEntries = new ConcurrentHashMap<>();
+    private final Map<Long, LotReference> liveLots = new HashMap<>();
+    private final Map<Long, Object> quantityLocks = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Product> releasedLots = new ReferenceQueue<>();
+    private final List<StockListener> stockListeners = new CopyOnWriteArrayList<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bloomRejections = new LongAdder();
+
+    public DiskBackedProductRepository(SortedCatalogFile catalogFile) {
+        this(catalogFile, DEFAULT_CACHE_CAPACITY);
+    }
+
+    public DiskBackedProductRepository(SortedCatalogFile catalogFile, int cacheCapacity) {
+        if (cacheCapacity <= 0) {
+            throw new IllegalArgumentException(InfraErrorMessage.INVALID_CACHE_CAPACITY.getMessage());
+        }
+        this.catalogFile = catalogFile;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Product>> eldest) {
+                if (size() <= cacheCapacity) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public List<Product> findAllByName(String productName) {
+        if (!catalogFile.mightContain(productName)) {
+            bloomRejections.increment();
+            return List.of();
+        }
+        synchronized (cache) {
+            List<Product> cached = cache.get(productName);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        // 디스크는 캐시 잠금 밖에서 읽고, 같은 상품을 동시에 찾는 요청은 먼저 읽기 시작한 요청의 결과를 기다린다
+        CompletableFuture<List<Product>> loading = new CompletableFuture<>();
+        CompletableFuture<List<Product>> inFlight = loadingEntries.putIfAbsent(productName, loading);
+        if (inFlight != null) {
+            return awaitLoading(inFlight);
+        }
+        try {
+            List<Product> loaded = catalogFile.find(productName)
+                    .map(this::resolve)
+                    .orElse(List.of());
+            if (!loaded.isEmpty()) {
+                synchronized (cache) {
+                    cache.put(productName, loaded);
+                }
+            }
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingEntries.remove(productName, loading);
+        }
+    }
+
+    private static List<Product> awaitLoading(CompletableFuture<List<Product>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 캐시에서 밀려난 뒤에도 누군가 쥐고 있는 재고 묶음은 같은 인스턴스를 돌려주어 재고 카운터가 둘로 갈라지지 않게 한다
+    private List<Product> resolve(SortedCatalogFile.Entry entry) {
+        synchronized (liveLots) {
+            expungeReleasedLots();
+            List<Product> lots = new ArrayList<>(entry.lots().size());
+            for (int index = 0; index < entry.lots().size(); index++) {
+                lots.add(liveLotOf(entry.lots().get(index), entry.quantityOffsets().get(index)));
+            }
+            return List.copyOf(lots);
+        }
+    }
+
+    private Product liveLotOf(Product read, long quantityOffset) {
+        LotReference reference = liveLots.get(quantityOffset);
+        if (reference != null) {
+            Product live = reference.get();
+            if (live != null) {
+                return live;
+            }
+        }
+        read.addStockListener((product, previousQuantity) -> {
+            writeLatestQuantity(quantityOffset, product);
+            stockListeners.forEach(listener -> listener.onStockChanged(product, previousQuantity));
+        });
+        liveLots.put(quantityOffset, new LotReference(read, quantityOffset, releasedLots));
+        return read;
+    }
+
+    // 위치마다 한 번에 하나만 쓰고 쓰기 직전에 수량을 읽어, 늦게 끝난 쓰기가 더 오래된 수량으로 덮지 않게 한다
+    private void writeLatestQuantity(long quantityOffset, Product product) {
+        synchronized (quantityLocks.computeIfAbsent(quantityOffset, ignored -> new Object())) {
+            catalogFile.writeQuantity(quantityOffset, product.getOnHandQuantity());
+        }
+    }
+
+    private void expungeReleasedLots() {
+        for (Object released = releasedLots.poll(); released != null; released = releasedLots.poll()) {
+            LotReference reference = (LotReference) released;
+            liveLots.remove(reference.quantityOffset, reference);
+        }
+    }
+
+    @Override
+    public Optional<Product> findLot(String productName, boolean promotionLot) {
+        return findAllByName(productName).stream()
+                .filter(product -> product.promotionNotNull() == promotionLot)
+                .findFirst();
+    }
+
+    @Override
+    public List<List<Product>> findAllByNames(List<String> productNames) {
+        return productNames.stream()
+                .map(this::getAllByName)
+                .toList();
+    }
+
+    private List<Product> getAllByName(String productName) {
+        List<Product> lots = findAllByName(productName);
+        if (lots.isEmpty()) {
+            throw new IllegalArgumentException(InfraErrorMessage.PRODUCT_NOT_FOUND.getMessage());
+        }
+        return lots;
+    }
+
+    @Override
+    public List<Product> getStocks() {
+        return streamStocks().toList();
+    }
+
+    // 전체 목록을 만들지 않고 블록 단위로 디스크에서 읽어 흘려보낸다
+    @Override
+    public Stream<Product> streamStocks() {
+        return catalogFile.stream().flatMap(entry -> resolve(entry).stream());
+    }
+
+    // 상품을 모두 읽지 않고 카탈로그 파일이 아는 프로모션 목록만 돌려준다
+    @Override
+    public List<Promotion> getPromotions() {
+        return catalogFile.getPromotions();
+    }
+
+    @Override
+    public void addStockListener(StockListener stockListener) {
+        stockListeners.add(stockListener);
+    }
+
+    public CacheStats getCacheStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), bloomRejections.sum());
+    }
+
+    @Override
+    public void close() {
+        catalogFile.close();
+    }
+
+    private static final class LotReference extends WeakReference<Product> {
+        private final long quantityOffset;
+
+        private LotReference(Product lot, long quantityOffset, ReferenceQueue<Product> queue) {
+            super(lot, queue);
+            this.quantityOffset = quantityOffset;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return streamStocks()
+                .map(Product::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
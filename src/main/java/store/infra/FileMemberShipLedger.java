@@ -0,0 +1,168 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import store.domain.MemberShip;
+import store.domain.MemberShipCap;
+import store.domain.MemberShipLedger;
+
+public class FileMemberShipLedger implements MemberShipLedger, AutoCloseable {
+    private static final int BUCKET_COUNT = 256;
+    private static final String BUCKET_FORMAT = "members-%03d.csv";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String DELIMITER = ",";
+
+    private final List<Bucket> buckets;
+    private ScheduledExecutorService flushScheduler;
+
+    public FileMemberShipLedger(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        this.buckets = IntStream.range(0, BUCKET_COUNT)
+                .mapToObj(index -> new Bucket(directory.resolve(String.format(BUCKET_FORMAT, index))))
+                .toList();
+    }
+
+    @Override
+    public MemberShip memberShipOf(String memberId) {
+        validateMemberId(memberId);
+        Bucket bucket = buckets.get(Math.floorMod(memberId.hashCode(), BUCKET_COUNT));
+        return new MemberShip(bucket.members().computeIfAbsent(memberId,
+                ignored -> bucket.newCap(MemberShip.ELIGIBLE_AMOUNT)));
+    }
+
+    private void validateMemberId(String memberId) {
+        if (memberId == null || memberId.isBlank() || memberId.contains(DELIMITER)
+                || memberId.lines().count() > 1) {
+            throw new IllegalArgumentException(InfraErrorMessage.INVALID_MEMBER_ID.getMessage());
+        }
+    }
+
+    public void startFlushing(Duration interval) {
+        startFlushing(interval, message -> {
+        });
+    }
+
+    public void startFlushing(Duration interval, Consumer<String> flushFailureHandler) {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "membership-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 예외가 빠져나가면 예약 작업이 조용히 취소되므로 실패는 버킷마다 알리고 다음 주기에 다시 쓴다
+        flushScheduler.scheduleWithFixedDelay(() -> flushEach(flushFailureHandler), interval.toMillis(),
+                interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void flush() {
+        List<String> failures = new ArrayList<>();
+        flushEach(failures::add);
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException(failures.getFirst());
+        }
+    }
+
+    private void flushEach(Consumer<String> flushFailureHandler) {
+        for (Bucket bucket : buckets) {
+            try {
+                bucket.flush();
+            } catch (RuntimeException e) {
+                flushFailureHandler.accept(e.getMessage());
+            }
+        }
+    }
+
+    public long loadedBucketCount() {
+        return buckets.stream().filter(Bucket::isLoaded).count();
+    }
+
+    @Override
+    public void close() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    private static final class Bucket {
+        private final Path path;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private volatile Map<String, MemberShipCap> members;
+
+        private Bucket(Path path) {
+            this.path = path;
+        }
+
+        private boolean isLoaded() {
+            return members != null;
+        }
+
+        // 처음 조회될 때 해당 버킷 파일만 읽어 기동 시간이 회원 수와 무관하도록 한다
+        private Map<String, MemberShipCap> members() {
+            Map<String, MemberShipCap> loaded = members;
+            if (loaded != null) {
+                return loaded;
+            }
+            synchronized (this) {
+                if (members == null) {
+                    members = load();
+                }
+                return members;
+            }
+        }
+
+        private Map<String, MemberShipCap> load() {
+            Map<String, MemberShipCap> loaded = new ConcurrentHashMap<>();
+            if (Files.notExists(path)) {
+                return loaded;
+            }
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    String[] fields = line.split(DELIMITER);
+                    loaded.put(fields[0], newCap(Integer.parseInt(fields[1])));
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+            }
+            return loaded;
+        }
+
+        private MemberShipCap newCap(int remaining) {
+            return new MemberShipCap(remaining, () -> dirty.set(true));
+        }
+
+        private void flush() {
+            if (!dirty.compareAndSet(true, false)) {
+                return;
+            }
+            List<String> lines = members.entrySet().stream()
+                    .map(entry -> entry.getKey() + DELIMITER + entry.getValue().getRemaining())
+                    .toList();
+            Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+            try {
+                Files.write(temp, lines, StandardCharsets.UTF_8);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                dirty.set(true);
+                throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+            }
+        }
+    }
+}
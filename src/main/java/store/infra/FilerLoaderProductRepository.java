@@ -1,34 +1,168 @@
 package store.infra;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import store.domain.Product;
+import store.domain.ProductRepository;
+import store.domain.StockListener;
+import store.infra.loader.FileLoader.ReadMode;
 import store.infra.loader.ProductLoader;
 import store.infra.loader.PromotionLoader;
 
-public class FilerLoaderProductRepository {
-    private final List<Product> stocks;
+public final class FilerLoaderProductRepository implements ProductRepository, AutoCloseable {
+    private static final Path SNAPSHOT_PATH = Paths.get("build", "catalog.snapshot");
+    private static final List<Path> SOURCE_PATHS = List.of(Paths.get(ProductLoader.FILE_PATH),
+            Paths.get(PromotionLoader.FILE_PATH));
+
+    private final List<StockListener> stockListeners = new CopyOnWriteArrayList<>();
+    private final InventoryFile inventoryFile;
+    private final List<Product> loadedStocks;
+    private volatile ProductCatalog catalog;
+    private volatile long catalogGeneration;
 
     public FilerLoaderProductRepository() {
-        PromotionLoader promotionLoader = new PromotionLoader();
-        PromotionFactory promotionFactory = new PromotionFactory(promotionLoader.loadPromotions());
-        ProductLoader productLoader = new ProductLoader(promotionFactory);
-        this.stocks = productLoader.loadProducts();
+        this(loadStocks());
+    }
+
+    public FilerLoaderProductRepository(List<Product> stocks) {
+        this(stocks, null);
+    }
+
+    private FilerLoaderProductRepository(List<Product> stocks, InventoryFile inventoryFile) {
+        this.inventoryFile = inventoryFile;
+        this.loadedStocks = stocks.stream()
+                .map(product -> new Product(product.getName(), product.getPrice(), product.getOnHandQuantity(),
+                        product.getPromotion()))
+                .toList();
+        this.catalog = ProductCatalog.of(stocks, this::notifyStockChanged);
+    }
+
+    // 저장소가 재고 파일을 넘겨받아, 닫을 때 나중에 반영 모드로 쌓인 변경까지 쓰고 파일을 닫는다
+    public static FilerLoaderProductRepository backedBy(InventoryFile inventoryFile,
+                                                        PromotionFactory promotionFactory) {
+        FilerLoaderProductRepository repository = new FilerLoaderProductRepository(
+                inventoryFile.readProducts(promotionFactory), inventoryFile);
+        repository.addStockListener(inventoryFile);
+        return repository;
     }
 
-    private static boolean findProductByName(String productName, Product each) {
-        return each.getName().equals(productName);
+    private static List<Product> loadStocks() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(SNAPSHOT_PATH);
+        return snapshot.readIfNewerThan(SOURCE_PATHS).orElseGet(() -> {
+            List<Product> products = loadStocksFromText();
+            // 스냅샷은 캐시일 뿐이므로 저장에 실패하면 다음 기동 때 텍스트 파일을 다시 읽는다.
+            snapshot.write(products);
+            return products;
+        });
+    }
+
+    static List<Product> loadStocksFromText() {
+        PromotionLoader promotionLoader = new PromotionLoader(ReadMode.MEMORY_MAPPED);
+        PromotionFactory promotionFactory = new PromotionFactory(promotionLoader.loadPromotions());
+        ProductLoader productLoader = new ProductLoader(promotionFactory, ReadMode.PARALLEL);
+        return productLoader.loadProducts();
     }
 
+    @Override
     public List<Product> findAllByName(String productName) {
-        return stocks.stream()
-                .filter(each -> findProductByName(productName, each))
+        ProductCatalog current = catalog;
+        int id = current.idOf(productName);
+        if (id == ProductCatalog.NOT_FOUND) {
+            return List.of();
+        }
+        return current.lotsOf(id);
+    }
+
+    @Override
+    public Optional<Product> findLot(String productName, boolean promotionLot) {
+        ProductCatalog current = catalog;
+        int id = current.idOf(productName);
+        if (id == ProductCatalog.NOT_FOUND) {
+            return Optional.empty();
+        }
+        if (promotionLot) {
+            return current.promotionLotOf(id);
+        }
+        return current.normalLotOf(id);
+    }
+
+    @Override
+    public List<List<Product>> findAllByNames(List<String> productNames) {
+        ProductCatalog current = catalog;
+        return productNames.stream()
+                .map(productName -> getAllByName(current, productName))
                 .toList();
     }
 
+    private static List<Product> getAllByName(ProductCatalog catalog, String productName) {
+        int id = catalog.idOf(productName);
+        if (id == ProductCatalog.NOT_FOUND) {
+            throw new IllegalArgumentException(InfraErrorMessage.PRODUCT_NOT_FOUND.getMessage());
+        }
+        return catalog.lotsOf(id);
+    }
+
+    public List<Product> findAllByPromotion(String promotionName) {
+        return catalog.getIndex().findAllByPromotion(promotionName);
+    }
+
+    public List<Product> findAllByPriceBetween(int minPrice, int maxPrice) {
+        return catalog.getIndex().findAllByPriceBetween(minPrice, maxPrice);
+    }
+
+    public List<Product> findOutOfStock() {
+        return catalog.getIndex().findOutOfStock();
+    }
+
+    public List<Product> findLowStock() {
+        return catalog.getIndex().findLowStock();
+    }
+
+    @Override
+    public List<Product> getStocks() {
+        return catalog.getStocks();
+    }
+
+    // 스냅샷이나 텍스트 파일에서 읽은 그대로의 재고다. 이후의 판매나 로그 복구는 반영하지 않는다.
+    List<Product> getLoadedStocks() {
+        return loadedStocks;
+    }
+
+    void replaceStocks(List<Product> stocks) {
+        ProductCatalog replaced = catalog;
+        catalog = ProductCatalog.of(stocks, this::notifyStockChanged);
+        catalogGeneration++;
+        replaced.detach();
+    }
+
+    @Override
+    public long getCatalogGeneration() {
+        return catalogGeneration;
+    }
+
+    @Override
+    public void addStockListener(StockListener stockListener) {
+        stockListeners.add(stockListener);
+    }
+
+    private void notifyStockChanged(Product product, int previousQuantity) {
+        stockListeners.forEach(listener -> listener.onStockChanged(product, previousQuantity));
+    }
+
+    @Override
+    public void close() {
+        if (inventoryFile != null) {
+            inventoryFile.close();
+        }
+    }
+
     @Override
     public String toString() {
-        return stocks.stream()
+        return catalog.getStocks().stream()
                 .map(Product::toString)
                 .collect(Collectors.joining(System.lineSeparator()));
     }
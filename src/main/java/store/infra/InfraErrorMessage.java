@@ -9,8 +9,13 @@ public enum InfraErrorMessage {
 
     INVALID_PRODUCT_NAME("잘못된 상품 이름입니다."),
     INVALID_PRODUCT_FORMAT("잘못된 상품 형식입니다."),
+    DUPLICATED_PRODUCT_LOT("같은 종류의 상품 재고가 중복되었습니다."),
+    PRODUCT_NOT_FOUND("존재하지 않는 상품입니다. 다시 입력해 주세요."),
 
     FILE_READ_FAILED("파일을 불러 오는 데 실패했습니다."),
+    FILE_WRITE_FAILED("파일을 저장하는 데 실패했습니다."),
+    INVALID_CACHE_CAPACITY("캐시 크기는 1 이상이어야 합니다."),
+    INVALID_MEMBER_ID("잘못된 회원 번호입니다."),
 
     ;
 
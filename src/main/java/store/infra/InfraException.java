@@ -0,0 +1,16 @@
+package store.infra;
+
+public class InfraException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final InfraErrorMessage errorMessage;
+
+    public InfraException(InfraErrorMessage errorMessage) {
+        super(errorMessage.getMessage());
+        this.errorMessage = errorMessage;
+    }
+
+    public InfraErrorMessage getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -0,0 +1,311 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import store.domain.Product;
+import store.domain.StockListener;
+
+// 진입점은 재고 로그(StockWriteAheadLog)로 재고를 지키므로 이 파일은 연결하지 않는다. 두 방식을 함께 쓰면 로그 복구가
+// 이미 파일에 반영된 차감을 한 번 더 적용하므로, 재고 파일을 쓰려는 쪽이 backedBy 와 InventoryFileConverter 로 직접 연결한다.
+public class InventoryFile implements StockListener, AutoCloseable {
+    private static final int MAGIC = 0x57494E56;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 3;
+    private static final int SLOT_COUNT_OFFSET = Integer.BYTES * 2;
+    private static final int SLOTS_PER_PRODUCT = 2;
+    private static final int PROMOTION_LOT = 0;
+    private static final int NORMAL_LOT = 1;
+
+    private static final int RECORD_SIZE = 128;
+    private static final int USED_OFFSET = 0;
+    private static final int NAME_OFFSET = 1;
+    private static final int NAME_WIDTH = 60;
+    private static final int PRICE_OFFSET = NAME_OFFSET + Short.BYTES + NAME_WIDTH;
+    private static final int QUANTITY_OFFSET = PRICE_OFFSET + Integer.BYTES;
+    private static final int PROMOTION_OFFSET = QUANTITY_OFFSET + Integer.BYTES;
+    private static final int PROMOTION_WIDTH = RECORD_SIZE - PROMOTION_OFFSET - Short.BYTES;
+    private static final byte USED = 1;
+    private static final String NULL_PROMOTION_NAME = "null";
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    private final FileChannel channel;
+    private final InventoryWriteMode writeMode;
+    private final Map<String, Integer> productIds = new ConcurrentHashMap<>();
+    private final Set<Integer> usedSlots = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Product> dirtySlots = new ConcurrentHashMap<>();
+    private final Map<Integer, Object> slotLocks = new ConcurrentHashMap<>();
+    private int productCount;
+    private ScheduledExecutorService flushScheduler;
+
+    private InventoryFile(FileChannel channel, InventoryWriteMode writeMode) {
+        this.channel = channel;
+        this.writeMode = writeMode;
+    }
+
+    public static InventoryFile create(Path path, List<Product> products, InventoryWriteMode writeMode) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            InventoryFile inventoryFile = new InventoryFile(channel, writeMode);
+            try {
+                inventoryFile.writeHeader();
+                for (Product product : products) {
+                    inventoryFile.appendRecord(product);
+                }
+                channel.force(false);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return inventoryFile;
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    public static InventoryFile open(Path path, InventoryWriteMode writeMode) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            InventoryFile inventoryFile = new InventoryFile(channel, writeMode);
+            inventoryFile.readHeader();
+            return inventoryFile;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(0).flip();
+        writeFully(header, 0);
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = readFully(HEADER_SIZE, 0);
+        if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        int slotCount = header.getInt();
+        if (slotCount < 0 || channel.size() < slotOffset(slotCount)) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        productCount = slotCount / SLOTS_PER_PRODUCT;
+    }
+
+    public List<Product> readProducts(PromotionFactory promotionFactory) {
+        try {
+            ByteBuffer records = readFully(productCount * SLOTS_PER_PRODUCT * RECORD_SIZE, HEADER_SIZE);
+            List<Product> products = new ArrayList<>();
+            for (int slot = 0; slot < productCount * SLOTS_PER_PRODUCT; slot++) {
+                ByteBuffer record = records.slice(slot * RECORD_SIZE, RECORD_SIZE);
+                if (record.get(USED_OFFSET) != USED) {
+                    continue;
+                }
+                Product product = readRecord(record, promotionFactory);
+                productIds.putIfAbsent(product.getName(), slot / SLOTS_PER_PRODUCT);
+                usedSlots.add(slot);
+                products.add(product);
+            }
+            return products;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private static Product readRecord(ByteBuffer record, PromotionFactory promotionFactory) {
+        String name = readString(record, NAME_OFFSET);
+        int price = record.getInt(PRICE_OFFSET);
+        int quantity = record.getInt(QUANTITY_OFFSET);
+        String promotionName = readString(record, PROMOTION_OFFSET);
+        if (promotionName.isEmpty()) {
+            promotionName = NULL_PROMOTION_NAME;
+        }
+        return new Product(name, price, quantity, promotionFactory.getPromotion(promotionName));
+    }
+
+    private static String readString(ByteBuffer record, int offset) {
+        byte[] bytes = new byte[record.getShort(offset)];
+        record.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void onStockChanged(Product product, int previousQuantity) {
+        Integer id = productIds.get(product.getName());
+        if (id == null || !usedSlots.contains(slotOf(id, product))) {
+            appendQuietly(product);
+            return;
+        }
+        int slot = slotOf(id, product);
+        if (writeMode == InventoryWriteMode.WRITE_BACK) {
+            dirtySlots.put(slot, product);
+            return;
+        }
+        writeLatestQuantity(slot, product);
+    }
+
+    // 슬롯마다 한 번에 하나만 쓰고 쓰기 직전에 수량을 읽어, 나중에 끝난 쓰기가 더 오래된 수량으로 덮지 않게 한다
+    private void writeLatestQuantity(int slot, Product product) {
+        synchronized (slotLocks.computeIfAbsent(slot, ignored -> new Object())) {
+            writeQuantity(slot, product.getOnHandQuantity());
+        }
+    }
+
+    private void writeQuantity(int slot, int quantity) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).putInt(0, quantity);
+        try {
+            writeFully(buffer, slotOffset(slot) + QUANTITY_OFFSET);
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    private synchronized void appendQuietly(Product product) {
+        Integer id = productIds.get(product.getName());
+        if (id != null && usedSlots.contains(slotOf(id, product))) {
+            writeLatestQuantity(slotOf(id, product), product);
+            return;
+        }
+        try {
+            appendRecord(product);
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    private synchronized void appendRecord(Product product) throws IOException {
+        int id = productIds.computeIfAbsent(product.getName(), name -> productCount++);
+        int slot = slotOf(id, product);
+        if (!usedSlots.add(slot)) {
+            throw new IllegalArgumentException(InfraErrorMessage.DUPLICATED_PRODUCT_LOT.getMessage());
+        }
+        writeFully(encodeRecord(product), slotOffset(slot));
+        ByteBuffer slotCount = ByteBuffer.allocate(Integer.BYTES).putInt(0, productCount * SLOTS_PER_PRODUCT);
+        writeFully(slotCount, SLOT_COUNT_OFFSET);
+    }
+
+    private static ByteBuffer encodeRecord(Product product) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.put(USED_OFFSET, USED);
+        putString(record, NAME_OFFSET, product.getName(), NAME_WIDTH, InfraErrorMessage.INVALID_PRODUCT_NAME);
+        record.putInt(PRICE_OFFSET, product.getPrice());
+        record.putInt(QUANTITY_OFFSET, product.getOnHandQuantity());
+        if (product.promotionNotNull()) {
+            putString(record, PROMOTION_OFFSET, product.getPromotion().name(), PROMOTION_WIDTH,
+                    InfraErrorMessage.INVALID_PROMOTION_NAME);
+        }
+        return record;
+    }
+
+    private static void putString(ByteBuffer record, int offset, String value, int width,
+                                  InfraErrorMessage tooLongError) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > width) {
+            throw new IllegalArgumentException(tooLongError.getMessage());
+        }
+        record.putShort(offset, (short) bytes.length);
+        record.put(offset + Short.BYTES, bytes);
+    }
+
+    // 나중에 반영 모드의 변경을 주기적으로 쓴다. 실패해도 슬롯은 다시 더럽혀 다음 주기에 재시도한다.
+    public void startFlushing(Duration interval, Consumer<String> flushFailureHandler) {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                flushFailureHandler.accept(e.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void flush() {
+        dirtySlots.keySet().forEach(slot -> {
+            Product product = dirtySlots.remove(slot);
+            if (product == null) {
+                return;
+            }
+            try {
+                writeLatestQuantity(slot, product);
+            } catch (IllegalStateException e) {
+                dirtySlots.putIfAbsent(slot, product);
+                throw e;
+            }
+        });
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    // 쓰는 도중에 인터럽트하면 채널이 닫히므로 진행 중인 flush 가 끝나기를 기다린다
+    private void stopFlushing() {
+        if (flushScheduler == null) {
+            return;
+        }
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int slotOf(int id, Product product) {
+        if (product.promotionNotNull()) {
+            return id * SLOTS_PER_PRODUCT + PROMOTION_LOT;
+        }
+        return id * SLOTS_PER_PRODUCT + NORMAL_LOT;
+    }
+
+    private static long slotOffset(int slot) {
+        return HEADER_SIZE + (long) slot * RECORD_SIZE;
+    }
+
+    private ByteBuffer readFully(int size, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long writePosition = position;
+        while (buffer.hasRemaining()) {
+            writePosition += channel.write(buffer, writePosition);
+        }
+    }
+
+    @Override
+    public void close() {
+        stopFlushing();
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+}
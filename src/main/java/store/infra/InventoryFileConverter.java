@@ -0,0 +1,48 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import store.domain.Product;
+import store.infra.loader.ProductLoader;
+
+public final class InventoryFileConverter {
+    private static final String PRODUCT_HEADER = "name,price,quantity,promotion";
+    private static final String NULL_PROMOTION_NAME = "null";
+    private static final String DELIMITER = ",";
+
+    private InventoryFileConverter() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void fromMarkdown(ProductLoader productLoader, Path productsPath, Path inventoryPath) {
+        List<Product> products = productLoader.loadProducts(productsPath.toString());
+        InventoryFile.create(inventoryPath, products, InventoryWriteMode.WRITE_THROUGH).close();
+    }
+
+    public static void toMarkdown(Path inventoryPath, PromotionFactory promotionFactory, Path productsPath) {
+        List<Product> products;
+        try (InventoryFile inventoryFile = InventoryFile.open(inventoryPath, InventoryWriteMode.WRITE_THROUGH)) {
+            products = inventoryFile.readProducts(promotionFactory);
+        }
+        List<String> lines = new ArrayList<>(products.size() + 1);
+        lines.add(PRODUCT_HEADER);
+        products.forEach(product -> lines.add(toLine(product)));
+        try {
+            Files.write(productsPath, lines);
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    private static String toLine(Product product) {
+        String promotionName = NULL_PROMOTION_NAME;
+        if (product.promotionNotNull()) {
+            promotionName = product.getPromotion().name();
+        }
+        return String.join(DELIMITER, product.getName(), String.valueOf(product.getPrice()),
+                String.valueOf(product.getOnHandQuantity()), promotionName);
+    }
+}
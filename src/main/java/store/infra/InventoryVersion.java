@@ -0,0 +1,178 @@
+package store.infra;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import store.domain.Product;
+import store.domain.ProductRepository;
+
+public final class InventoryVersion implements ProductRepository {
+    static final int CHUNK_SIZE = 64;
+
+    private final long version;
+    private final Layout layout;
+    private final int[][] chunks;
+
+    private InventoryVersion(long version, Layout layout, int[][] chunks) {
+        this.version = version;
+        this.layout = layout;
+        this.chunks = chunks;
+    }
+
+    static InventoryVersion of(long version, List<Product> lots) {
+        int[][] chunks = new int[(lots.size() + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            chunks[chunk] = new int[Math.min(CHUNK_SIZE, lots.size() - chunk * CHUNK_SIZE)];
+        }
+        for (int index = 0; index < lots.size(); index++) {
+            chunks[index / CHUNK_SIZE][index % CHUNK_SIZE] = lots.get(index).getQuantity();
+        }
+        return new InventoryVersion(version, new Layout(lots), chunks);
+    }
+
+    boolean isLayoutOf(List<Product> lots) {
+        if (layout.lots == lots) {
+            return true;
+        }
+        if (layout.lots.size() != lots.size()) {
+            return false;
+        }
+        for (int index = 0; index < lots.size(); index++) {
+            if (layout.lots.get(index) != lots.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 바뀐 청크만 복사하고 나머지 청크는 이전 버전과 공유한다. 예약된 수량은 빼고 판매 가능한 수량을 담는다.
+    InventoryVersion refresh(Collection<Product> changedLots) {
+        int[][] nextChunks = chunks.clone();
+        boolean[] copied = new boolean[chunks.length];
+        boolean changed = false;
+        for (Product lot : changedLots) {
+            Integer index = layout.indexes.get(lot);
+            if (index == null || quantityAt(index) == lot.getQuantity()) {
+                continue;
+            }
+            int chunk = index / CHUNK_SIZE;
+            if (!copied[chunk]) {
+                nextChunks[chunk] = chunks[chunk].clone();
+                copied[chunk] = true;
+            }
+            nextChunks[chunk][index % CHUNK_SIZE] = lot.getQuantity();
+            changed = true;
+        }
+        if (!changed) {
+            return this;
+        }
+        return new InventoryVersion(version + 1, layout, nextChunks);
+    }
+
+    boolean hasSameLayout(InventoryVersion other) {
+        return layout == other.layout;
+    }
+
+    boolean sharesChunk(InventoryVersion other, int chunk) {
+        return chunks[chunk] == other.chunks[chunk];
+    }
+
+    int size() {
+        return layout.lots.size();
+    }
+
+    int chunkCount() {
+        return chunks.length;
+    }
+
+    String renderRow(int index) {
+        return copyOf(index).toString();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int quantityOf(Product product) {
+        Integer index = layout.indexes.get(product);
+        if (index == null) {
+            return 0;
+        }
+        return quantityAt(index);
+    }
+
+    int quantityAt(int index) {
+        return chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+    }
+
+    private Product copyOf(int index) {
+        Product lot = layout.lots.get(index);
+        return new Product(lot.getName(), lot.getPrice(), quantityAt(index), lot.getPromotion());
+    }
+
+    private List<Product> copiesOf(List<Integer> indexes) {
+        return indexes.stream().map(this::copyOf).toList();
+    }
+
+    @Override
+    public List<Product> findAllByName(String productName) {
+        return copiesOf(layout.indexesByName.getOrDefault(productName, List.of()));
+    }
+
+    @Override
+    public Optional<Product> findLot(String productName, boolean promotionLot) {
+        return layout.indexesByName.getOrDefault(productName, List.of()).stream()
+                .filter(index -> layout.lots.get(index).promotionNotNull() == promotionLot)
+                .findFirst()
+                .map(this::copyOf);
+    }
+
+    @Override
+    public List<List<Product>> findAllByNames(List<String> productNames) {
+        return productNames.stream()
+                .map(productName -> {
+                    List<Integer> indexes = layout.indexesByName.get(productName);
+                    if (indexes == null) {
+                        throw new IllegalArgumentException(InfraErrorMessage.PRODUCT_NOT_FOUND.getMessage());
+                    }
+                    return copiesOf(indexes);
+                })
+                .toList();
+    }
+
+    @Override
+    public List<Product> getStocks() {
+        List<Product> stocks = new ArrayList<>();
+        for (int index = 0; index < layout.lots.size(); index++) {
+            stocks.add(copyOf(index));
+        }
+        return stocks;
+    }
+
+    @Override
+    public String toString() {
+        return getStocks().stream()
+                .map(Product::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static final class Layout {
+        private final List<Product> lots;
+        private final Map<Product, Integer> indexes = new IdentityHashMap<>();
+        private final Map<String, List<Integer>> indexesByName = new LinkedHashMap<>();
+
+        private Layout(List<Product> lots) {
+            this.lots = lots;
+            for (int index = 0; index < lots.size(); index++) {
+                Product lot = lots.get(index);
+                indexes.put(lot, index);
+                indexesByName.computeIfAbsent(lot.getName(), name -> new ArrayList<>()).add(index);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package store.infra;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import store.domain.InventorySnapshots;
+import store.domain.ListingStats;
+import store.domain.Product;
+import store.domain.ProductRepository;
+import store.domain.StockDecrement;
+import store.domain.StockJournal;
+import store.domain.StockLocks;
+
+public final class InventoryVersions implements InventorySnapshots, StockJournal {
+    private final ProductRepository productRepository;
+    private final StockJournal stockJournal;
+    private final AtomicReference<InventoryVersion> current;
+    private final StockListingCache stockListingCache = new StockListingCache();
+    private final ThreadLocal<Set<Product>> pendingLots = new ThreadLocal<>();
+    private volatile long layoutGeneration;
+
+    public InventoryVersions(ProductRepository productRepository) {
+        this(productRepository, StockJournal.NONE);
+    }
+
+    public InventoryVersions(ProductRepository productRepository, StockJournal stockJournal) {
+        this.productRepository = productRepository;
+        this.stockJournal = stockJournal;
+        this.layoutGeneration = productRepository.getCatalogGeneration();
+        List<Product> lots = productRepository.getStocks();
+        this.current = new AtomicReference<>(StockLocks.withLocks(lots, () -> InventoryVersion.of(0, lots)));
+        // 주문, 예약, 입고, 롤백 모두 재고 잠금 구간 안에서 알림이 오므로 그 구간이 끝나기 전에 한 번에 공개한다
+        productRepository.addStockListener(this::onStockChanged);
+    }
+
+    private void onStockChanged(Product product, int previousQuantity) {
+        Set<Product> pending = pendingLots.get();
+        if (pending != null) {
+            pending.add(product);
+            return;
+        }
+        Set<Product> changedLots = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedLots.add(product);
+        pendingLots.set(changedLots);
+        StockLocks.beforeUnlock(() -> {
+            pendingLots.remove();
+            publish(changedLots);
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<StockDecrement>> append(Supplier<List<StockDecrement>> mutation) {
+        return stockJournal.append(mutation);
+    }
+
+    // 바뀐 묶음의 잠금을 쥔 채로 수량을 읽으므로 다른 주문이 반쯤 반영된 상태가 버전에 섞이지 않는다
+    private void publish(Collection<Product> changedLots) {
+        current.updateAndGet(version -> version.refresh(changedLots));
+    }
+
+    @Override
+    public InventoryVersion pin() {
+        // 상품 구성이 그대로면 저장소의 전체 목록을 다시 가져오지 않는다. 디스크 저장소라면 매번 전체를 읽게 된다.
+        if (productRepository.getCatalogGeneration() == layoutGeneration) {
+            return current.get();
+        }
+        return relayout();
+    }
+
+    // 구성 세대를 목록보다 먼저 읽고 한 스레드만 다시 만들게 해, 기록한 세대가 버전의 구성보다 앞서지 않게 한다
+    private synchronized InventoryVersion relayout() {
+        long catalogGeneration = productRepository.getCatalogGeneration();
+        List<Product> lots = productRepository.getStocks();
+        // 카탈로그가 다시 로드되면 새 상품 목록을 모두 잠근 채로 버전을 다시 만들어, 그 사이의 공개와 순서가 섞이지 않게 한다
+        InventoryVersion rebuilt = StockLocks.withLocks(lots, () -> current.updateAndGet(latest -> {
+            if (latest.isLayoutOf(lots)) {
+                return latest;
+            }
+            return InventoryVersion.of(latest.getVersion() + 1, lots);
+        }));
+        layoutGeneration = catalogGeneration;
+        return rebuilt;
+    }
+
+    @Override
+    public String renderListing() {
+        return stockListingCache.render(pin());
+    }
+
+    @Override
+    public ListingStats getListingStats() {
+        return stockListingCache.getStats();
+    }
+}
@@ -0,0 +1,6 @@
+package store.infra;
+
+public enum InventoryWriteMode {
+    WRITE_THROUGH,
+    WRITE_BACK
+}
@@ -0,0 +1,104 @@
+package store.infra;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import store.domain.Product;
+import store.domain.StockListener;
+
+public final class ProductCatalog implements StockListener {
+    public static final int NOT_FOUND = -1;
+    private static final int LOW_STOCK_THRESHOLD = 3;
+
+    private final List<Product> stocks;
+    private final Map<String, Integer> productIds = new HashMap<>();
+    private final List<Product> promotionLots = new ArrayList<>();
+    private final List<Product> normalLots = new ArrayList<>();
+    private final CatalogIndex index;
+    private final StockListener stockListener;
+
+    private ProductCatalog(List<Product> stocks, StockListener stockListener) {
+        this.stockListener = stockListener;
+        this.stocks = List.copyOf(stocks);
+        this.stocks.forEach(this::register);
+        this.index = new CatalogIndex(this.stocks, LOW_STOCK_THRESHOLD);
+    }
+
+    public static ProductCatalog of(List<Product> stocks) {
+        return of(stocks, StockListener.NONE);
+    }
+
+    // 생성이 끝난 뒤에 상품에 등록해야 다 만들어지지 않은 카탈로그가 재고 변경 알림을 받지 않는다
+    public static ProductCatalog of(List<Product> stocks, StockListener stockListener) {
+        ProductCatalog catalog = new ProductCatalog(stocks, stockListener);
+        catalog.stocks.forEach(product -> product.addStockListener(catalog));
+        return catalog;
+    }
+
+    // 교체된 카탈로그가 계속 알림을 받으면 낡은 색인을 갱신하고 저장소 리스너에 같은 변경을 두 번 알린다
+    public void detach() {
+        stocks.forEach(product -> product.removeStockListener(this));
+    }
+
+    private void register(Product product) {
+        int id = productIds.computeIfAbsent(product.getName(), name -> allocateId());
+        if (product.promotionNotNull()) {
+            assign(promotionLots, id, product);
+            return;
+        }
+        assign(normalLots, id, product);
+    }
+
+    private int allocateId() {
+        promotionLots.add(null);
+        normalLots.add(null);
+        return promotionLots.size() - 1;
+    }
+
+    private static void assign(List<Product> lots, int id, Product product) {
+        if (lots.get(id) != null) {
+            throw new IllegalArgumentException(InfraErrorMessage.DUPLICATED_PRODUCT_LOT.getMessage());
+        }
+        lots.set(id, product);
+    }
+
+    @Override
+    public void onStockChanged(Product product, int previousQuantity) {
+        index.onStockChanged(product, previousQuantity);
+        stockListener.onStockChanged(product, previousQuantity);
+    }
+
+    public int idOf(String productName) {
+        return productIds.getOrDefault(productName, NOT_FOUND);
+    }
+
+    public List<Product> lotsOf(int id) {
+        return Stream.of(promotionLots.get(id), normalLots.get(id))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public Optional<Product> promotionLotOf(int id) {
+        return Optional.ofNullable(promotionLots.get(id));
+    }
+
+    public Optional<Product> normalLotOf(int id) {
+        return Optional.ofNullable(normalLots.get(id));
+    }
+
+    public int size() {
+        return productIds.size();
+    }
+
+    public CatalogIndex getIndex() {
+        return index;
+    }
+
+    public List<Product> getStocks() {
+        return stocks;
+    }
+}
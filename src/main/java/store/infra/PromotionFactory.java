@@ -14,12 +14,16 @@ public class PromotionFactory {
         loadedPromotions.forEach(promotion -> promotions.put(promotion.name(), promotion));
     }
 
+    public List<Promotion> getPromotions() {
+        return List.copyOf(promotions.values());
+    }
+
     public Promotion getPromotion(String promotionName) {
         if (Objects.equals(NULL_PROMOTION_NAME, promotionName)) {
             return null;
         }
         if (!promotions.containsKey(promotionName)) {
-            throw new IllegalArgumentException(InfraErrorMessage.INVALID_PROMOTION_NAME.getMessage());
+            throw new InfraException(InfraErrorMessage.INVALID_PROMOTION_NAME);
         }
         return promotions.get(promotionName);
     }
@@ -0,0 +1,7 @@
+package store.infra;
+
+public record ReloadSummary(int added, int replaced, int restocked, int removed) {
+    public boolean hasChanges() {
+        return added + replaced + restocked + removed > 0;
+    }
+}
@@ -0,0 +1,46 @@
+package store.infra;
+
+import java.util.concurrent.DelayQueue;
+import store.domain.Reservation;
+import store.domain.ReservationTracker;
+
+public class ReservationSweeper implements ReservationTracker, AutoCloseable {
+    private final DelayQueue<Reservation> reservations = new DelayQueue<>();
+    private Thread sweeper;
+
+    public void start() {
+        sweeper = new Thread(this::sweep, "reservation-sweeper");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    @Override
+    public void track(Reservation reservation) {
+        if (reservation.isActive()) {
+            reservations.add(reservation);
+            // 만료 전에 확정되거나 풀린 예약이 TTL 동안 큐에 남지 않게 바로 뺀다
+            reservation.whenReleased(() -> reservations.remove(reservation));
+        }
+    }
+
+    private void sweep() {
+        try {
+            while (true) {
+                reservations.take().release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int pendingCount() {
+        return reservations.size();
+    }
+
+    @Override
+    public void close() {
+        if (sweeper != null) {
+            sweeper.interrupt();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package store.infra;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import store.domain.Product;
+import store.domain.Promotion;
+
+public class SortedCatalogFile implements AutoCloseable {
+    private static final int MAGIC = 0x57534346;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int FOOTER_SIZE = Long.BYTES * 2 + Integer.BYTES * 3;
+    private static final int INDEX_INTERVAL = 32;
+    private static final int LOT_FIXED_SIZE = Integer.BYTES * 2 + Short.BYTES;
+    private static final String NULL_PROMOTION_NAME = "null";
+
+    private final FileChannel channel;
+    private final PromotionFactory promotionFactory;
+    private final String[] indexNames;
+    private final long[] indexOffsets;
+    private final long dataEnd;
+    private final int entryCount;
+    private final BloomFilter bloomFilter;
+
+    private SortedCatalogFile(FileChannel channel, PromotionFactory promotionFactory, String[] indexNames,
+                              long[] indexOffsets, long dataEnd, int entryCount, BloomFilter bloomFilter) {
+        this.channel = channel;
+        this.promotionFactory = promotionFactory;
+        this.indexNames = indexNames;
+        this.indexOffsets = indexOffsets;
+        this.dataEnd = dataEnd;
+        this.entryCount = entryCount;
+        this.bloomFilter = bloomFilter;
+    }
+
+    public static void write(Path path, List<Product> products) {
+        Map<String, List<Product>> lotsByName = new TreeMap<>();
+        products.forEach(product -> lotsByName.computeIfAbsent(product.getName(), name -> new ArrayList<>(2))
+                .add(product));
+        BloomFilter bloomFilter = BloomFilter.withExpectedEntries(lotsByName.size());
+        List<String> indexNames = new ArrayList<>();
+        List<Long> indexOffsets = new ArrayList<>();
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))) {
+            output.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).array());
+            long position = HEADER_SIZE;
+            int entryIndex = 0;
+            for (Map.Entry<String, List<Product>> entry : lotsByName.entrySet()) {
+                if (entryIndex++ % INDEX_INTERVAL == 0) {
+                    indexNames.add(entry.getKey());
+                    indexOffsets.add(position);
+                }
+                bloomFilter.add(entry.getKey());
+                byte[] encoded = encodeEntry(entry.getKey(), entry.getValue());
+                output.write(encoded);
+                position += encoded.length;
+            }
+            long indexOffset = position;
+            byte[] index = encodeIndex(indexNames, indexOffsets);
+            output.write(index);
+            long bloomOffset = indexOffset + index.length;
+            ByteBuffer bloom = ByteBuffer.allocate(bloomFilter.serializedSize());
+            bloomFilter.writeTo(bloom);
+            output.write(bloom.array());
+            output.write(ByteBuffer.allocate(FOOTER_SIZE).putLong(indexOffset).putInt(indexNames.size())
+                    .putLong(bloomOffset).putInt(lotsByName.size()).putInt(MAGIC).array());
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    private static byte[] encodeEntry(String name, List<Product> lots) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> promotionNames = lots.stream().map(SortedCatalogFile::promotionNameOf)
+                .map(promotionName -> promotionName.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        int size = Short.BYTES + nameBytes.length + Byte.BYTES + promotionNames.stream()
+                .mapToInt(promotionName -> LOT_FIXED_SIZE + promotionName.length)
+                .sum();
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putShort((short) nameBytes.length).put(nameBytes).put((byte) lots.size());
+        for (int index = 0; index < lots.size(); index++) {
+            Product lot = lots.get(index);
+            byte[] promotionName = promotionNames.get(index);
+            buffer.putInt(lot.getPrice()).putInt(lot.getOnHandQuantity())
+                    .putShort((short) promotionName.length).put(promotionName);
+        }
+        return buffer.array();
+    }
+
+    private static String promotionNameOf(Product product) {
+        if (product.promotionNotNull()) {
+            return product.getPromotion().name();
+        }
+        return NULL_PROMOTION_NAME;
+    }
+
+    private static byte[] encodeIndex(List<String> names, List<Long> offsets) {
+        List<byte[]> encodedNames = names.stream().map(name -> name.getBytes(StandardCharsets.UTF_8)).toList();
+        int size = encodedNames.stream().mapToInt(name -> Short.BYTES + name.length + Long.BYTES).sum();
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int index = 0; index < names.size(); index++) {
+            buffer.putShort((short) encodedNames.get(index).length).put(encodedNames.get(index))
+                    .putLong(offsets.get(index));
+        }
+        return buffer.array();
+    }
+
+    public static SortedCatalogFile open(Path path, PromotionFactory promotionFactory) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                return open(channel, promotionFactory);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | BufferUnderflowException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private static SortedCatalogFile open(FileChannel channel, PromotionFactory promotionFactory)
+            throws IOException {
+        long size = channel.size();
+        ByteBuffer header = read(channel, 0, HEADER_SIZE);
+        ByteBuffer footer = read(channel, size - FOOTER_SIZE, FOOTER_SIZE);
+        if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION || footer.getInt(FOOTER_SIZE
+                - Integer.BYTES) != MAGIC) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        long indexOffset = footer.getLong();
+        String[] indexNames = new String[footer.getInt()];
+        long bloomOffset = footer.getLong();
+        int entryCount = footer.getInt();
+        long[] indexOffsets = new long[indexNames.length];
+        ByteBuffer index = read(channel, indexOffset, (int) (bloomOffset - indexOffset));
+        for (int position = 0; position < indexNames.length; position++) {
+            indexNames[position] = readString(index);
+            indexOffsets[position] = index.getLong();
+        }
+        BloomFilter bloomFilter = BloomFilter.read(read(channel, bloomOffset,
+                (int) (size - FOOTER_SIZE - bloomOffset)));
+        return new SortedCatalogFile(channel, promotionFactory, indexNames, indexOffsets, indexOffset, entryCount,
+                bloomFilter);
+    }
+
+    public boolean mightContain(String productName) {
+        return bloomFilter.mightContain(productName);
+    }
+
+    public Optional<Entry> find(String productName) {
+        int block = Arrays.binarySearch(indexNames, productName);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        if (block < 0) {
+            return Optional.empty();
+        }
+        ByteBuffer entries = readBlock(block);
+        while (entries.hasRemaining()) {
+            Entry entry = readEntry(entries, indexOffsets[block]);
+            int comparison = entry.name().compareTo(productName);
+            if (comparison == 0) {
+                return Optional.of(entry);
+            }
+            if (comparison > 0) {
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void forEach(Consumer<Entry> action) {
+        stream().forEach(action);
+    }
+
+    // 블록 단위로 읽으므로 한 번에 힙에 올라오는 엔트리는 한 블록 분량뿐이다
+    public Stream<Entry> stream() {
+        return IntStream.range(0, indexOffsets.length)
+                .mapToObj(this::readEntries)
+                .flatMap(List::stream);
+    }
+
+    private List<Entry> readEntries(int block) {
+        ByteBuffer entries = readBlock(block);
+        List<Entry> read = new ArrayList<>(INDEX_INTERVAL);
+        while (entries.hasRemaining()) {
+            read.add(readEntry(entries, indexOffsets[block]));
+        }
+        return read;
+    }
+
+    private ByteBuffer readBlock(int block) {
+        long end = dataEnd;
+        if (block + 1 < indexOffsets.length) {
+            end = indexOffsets[block + 1];
+        }
+        try {
+            return read(channel, indexOffsets[block], (int) (end - indexOffsets[block]));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private Entry readEntry(ByteBuffer entries, long blockOffset) {
+        String name = readString(entries);
+        int lotCount = entries.get();
+        List<Product> lots = new ArrayList<>(lotCount);
+        List<Long> quantityOffsets = new ArrayList<>(lotCount);
+        for (int index = 0; index < lotCount; index++) {
+            int price = entries.getInt();
+            quantityOffsets.add(blockOffset + entries.position());
+            int quantity = entries.getInt();
+            String promotionName = readString(entries);
+            lots.add(new Product(name, price, quantity, promotionFactory.getPromotion(promotionName)));
+        }
+        return new Entry(name, lots, quantityOffsets);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public void writeQuantity(long quantityOffset, int quantity) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).putInt(0, quantity);
+        try {
+            long position = quantityOffset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+            }
+        }
+        return buffer.flip();
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    public List<Promotion> getPromotions() {
+        return promotionFactory.getPromotions();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    public record Entry(String name, List<Product> lots, List<Long> quantityOffsets) {
+    }
+}
@@ -0,0 +1,69 @@
+package store.infra;
+
+import java.util.concurrent.atomic.LongAdder;
+import store.domain.ListingStats;
+
+public class StockListingCache {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder renderedRows = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+    private volatile Rendered rendered;
+
+    public String render(InventoryVersion version) {
+        Rendered cached = rendered;
+        if (cached != null && cached.version == version) {
+            hits.increment();
+            return cached.listing;
+        }
+        return renderMiss(version);
+    }
+
+    private synchronized String renderMiss(InventoryVersion version) {
+        Rendered cached = rendered;
+        if (cached != null && cached.version == version) {
+            hits.increment();
+            return cached.listing;
+        }
+        misses.increment();
+        long startedAt = System.nanoTime();
+        String[] rows = renderRows(version, cached);
+        Rendered next = new Rendered(version, rows, String.join(System.lineSeparator(), rows));
+        rendered = next;
+        renderNanos.add(System.nanoTime() - startedAt);
+        return next.listing;
+    }
+
+    // 같은 배치의 이전 버전이 있으면 수량이 바뀐 행만 다시 그린다
+    private String[] renderRows(InventoryVersion version, Rendered cached) {
+        if (cached == null || !version.hasSameLayout(cached.version)) {
+            String[] rows = new String[version.size()];
+            for (int index = 0; index < rows.length; index++) {
+                rows[index] = version.renderRow(index);
+            }
+            renderedRows.add(rows.length);
+            return rows;
+        }
+        String[] rows = cached.rows.clone();
+        for (int chunk = 0; chunk < version.chunkCount(); chunk++) {
+            if (version.sharesChunk(cached.version, chunk)) {
+                continue;
+            }
+            int end = Math.min(rows.length, (chunk + 1) * InventoryVersion.CHUNK_SIZE);
+            for (int index = chunk * InventoryVersion.CHUNK_SIZE; index < end; index++) {
+                if (version.quantityAt(index) != cached.version.quantityAt(index)) {
+                    rows[index] = version.renderRow(index);
+                    renderedRows.increment();
+                }
+            }
+        }
+        return rows;
+    }
+
+    public ListingStats getStats() {
+        return new ListingStats(hits.sum(), misses.sum(), renderedRows.sum(), renderNanos.sum());
+    }
+
+    private record Rendered(InventoryVersion version, String[] rows, String listing) {
+    }
+}
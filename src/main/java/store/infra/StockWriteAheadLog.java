@@ -0,0 +1,378 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import store.domain.Product;
+import store.domain.ProductRepository;
+import store.domain.StockDecrement;
+import store.domain.StockJournal;
+
+public class StockWriteAheadLog implements StockJournal, AutoCloseable {
+    private static final String SEGMENT_FORMAT = "stock-%010d.wal";
+    private static final String CHECKPOINT_FORMAT = "checkpoint-%010d.snapshot";
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("stock-(\\d{10})\\.wal");
+    private static final Pattern CHECKPOINT_PATTERN = Pattern.compile("checkpoint-(\\d{10})\\.snapshot");
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+    private final Path directory;
+    private final SegmentOpener segmentOpener;
+    private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+    private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+    private final Thread writer;
+    private ScheduledExecutorService checkpointScheduler;
+    private FileChannel segment;
+    private volatile long segmentNumber;
+    private volatile boolean broken;
+
+    public StockWriteAheadLog(Path directory) {
+        this(directory, path -> FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND));
+    }
+
+    StockWriteAheadLog(Path directory, SegmentOpener segmentOpener) {
+        this.directory = directory;
+        this.segmentOpener = segmentOpener;
+        try {
+            Files.createDirectories(directory);
+            this.segmentNumber = latestSegmentNumber();
+            this.segment = openSegment(segmentNumber);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        this.writer = new Thread(this::writeLoop, "stock-wal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<List<StockDecrement>> append(Supplier<List<StockDecrement>> mutation) {
+        checkpointLock.readLock().lock();
+        try {
+            if (broken) {
+                throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+            }
+            List<StockDecrement> decrements = mutation.get();
+            if (decrements.isEmpty()) {
+                return CompletableFuture.completedFuture(decrements);
+            }
+            return enqueue(PendingWrite.record(encode(decrements))).handle((ignored, error) -> {
+                if (error != null) {
+                    // 기록되지 않은 차감을 메모리에 남기면 재시작한 뒤의 재고와 어긋나므로 되돌린다
+                    decrements.forEach(decrement -> decrement.product().adjustQuantity(decrement.quantity()));
+                    throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+                }
+                return decrements;
+            });
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(PendingWrite pendingWrite) {
+        pendingWrites.add(pendingWrite);
+        return pendingWrite.durable();
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(pendingWrites.take());
+                pendingWrites.drainTo(batch);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        List<PendingWrite> unsynced = new ArrayList<>();
+        long unsyncedStart = -1;
+        try {
+            unsyncedStart = segment.size();
+            for (PendingWrite pendingWrite : batch) {
+                if (pendingWrite.rollSegment()) {
+                    rollSegment();
+                    unsynced.forEach(PendingWrite::complete);
+                    unsynced.clear();
+                    pendingWrite.complete();
+                    unsyncedStart = segment.size();
+                    continue;
+                }
+                unsynced.add(pendingWrite);
+                ByteBuffer record = pendingWrite.record();
+                while (record.hasRemaining()) {
+                    segment.write(record);
+                }
+            }
+            segment.force(false);
+            unsynced.forEach(PendingWrite::complete);
+        } catch (IOException e) {
+            discardUnsynced(unsyncedStart);
+            IllegalStateException failure = new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+            batch.forEach(pendingWrite -> pendingWrite.durable().completeExceptionally(failure));
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        segment.force(false);
+        segment.close();
+        segmentNumber++;
+        segment = openSegment(segmentNumber);
+    }
+
+    // 동기화하지 못한 꼬리를 잘라 내야 메모리에서 되돌린 차감이 재시작 때 다시 적용되지 않는다.
+    // 잘라 내지도 못하면 디스크와 메모리가 어긋날 수 있으므로 이후의 기록을 받지 않는다.
+    private void discardUnsynced(long unsyncedStart) {
+        try {
+            if (unsyncedStart < 0) {
+                throw new IOException();
+            }
+            segment.truncate(unsyncedStart);
+        } catch (IOException e) {
+            broken = true;
+        }
+    }
+
+    public void startCheckpoints(ProductRepository repository, Duration interval) {
+        checkpointScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-wal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointScheduler.scheduleWithFixedDelay(() -> checkpoint(repository.getStocks()),
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void checkpoint(List<Product> stocks) {
+        List<Product> capturedStocks;
+        CompletableFuture<Void> rolled;
+        checkpointLock.writeLock().lock();
+        try {
+            capturedStocks = stocks.stream()
+                    .map(product -> new Product(product.getName(), product.getPrice(), product.getOnHandQuantity(),
+                            product.getPromotion()))
+                    .toList();
+            rolled = enqueue(PendingWrite.roll());
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+        rolled.join();
+        long firstLiveSegment = segmentNumber;
+        CatalogSnapshot checkpoint = new CatalogSnapshot(checkpointPath(firstLiveSegment));
+        if (checkpoint.write(capturedStocks)) {
+            deleteFilesBefore(firstLiveSegment);
+        }
+    }
+
+    public void recover(ProductRepository repository) {
+        Optional<Long> checkpointNumber = latestNumber(CHECKPOINT_PATTERN);
+        checkpointNumber.flatMap(number -> new CatalogSnapshot(checkpointPath(number)).read())
+                .ifPresent(checkpoint -> restoreQuantities(repository, checkpoint));
+        long firstSegment = checkpointNumber.orElse(0L);
+        for (long number = firstSegment; number <= segmentNumber; number++) {
+            replaySegment(repository, segmentPath(number));
+        }
+    }
+
+    private static void restoreQuantities(ProductRepository repository, List<Product> checkpoint) {
+        checkpoint.forEach(saved -> repository.findLot(saved.getName(), saved.promotionNotNull())
+                .ifPresent(product -> product.adjustQuantity(
+                        saved.getOnHandQuantity() - product.getOnHandQuantity())));
+    }
+
+    private void replaySegment(ProductRepository repository, Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                int start = buffer.position();
+                Optional<ByteBuffer> payload = readRecord(buffer);
+                if (payload.isEmpty()) {
+                    truncateTornTail(path, start);
+                    return;
+                }
+                replayRecord(repository, payload.get());
+            }
+            if (buffer.hasRemaining()) {
+                truncateTornTail(path, buffer.position());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private static Optional<ByteBuffer> readRecord(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            return Optional.empty();
+        }
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return Optional.empty();
+        }
+        return Optional.of(payload);
+    }
+
+    private static void replayRecord(ProductRepository repository, ByteBuffer payload) {
+        try {
+            int entryCount = payload.getInt();
+            for (int index = 0; index < entryCount; index++) {
+                byte[] name = new byte[payload.getInt()];
+                payload.get(name);
+                boolean promotionLot = payload.get() == 1;
+                int quantity = payload.getInt();
+                repository.findLot(new String(name, StandardCharsets.UTF_8), promotionLot)
+                        .ifPresent(product -> product.decrease(quantity));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private void truncateTornTail(Path path, long validLength) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(validLength);
+        }
+    }
+
+    private static ByteBuffer encode(List<StockDecrement> decrements) {
+        List<byte[]> names = decrements.stream()
+                .map(decrement -> decrement.product().getName().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        int payloadSize = Integer.BYTES + names.stream()
+                .mapToInt(name -> Integer.BYTES + name.length + Byte.BYTES + Integer.BYTES)
+                .sum();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + payloadSize);
+        buffer.position(RECORD_HEADER_SIZE);
+        buffer.putInt(decrements.size());
+        for (int index = 0; index < decrements.size(); index++) {
+            StockDecrement decrement = decrements.get(index);
+            buffer.putInt(names.get(index).length);
+            buffer.put(names.get(index));
+            buffer.put((byte) (decrement.product().promotionNotNull() ? 1 : 0));
+            buffer.putInt(decrement.quantity());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_SIZE, payloadSize);
+        buffer.putInt(0, payloadSize);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return segmentOpener.open(segmentPath(number));
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format(SEGMENT_FORMAT, number));
+    }
+
+    private Path checkpointPath(long number) {
+        return directory.resolve(String.format(CHECKPOINT_FORMAT, number));
+    }
+
+    private long latestSegmentNumber() {
+        return latestNumber(SEGMENT_PATTERN).orElse(0L);
+    }
+
+    private Optional<Long> latestNumber(Pattern pattern) {
+        return numbersOf(pattern).stream().max(Long::compare);
+    }
+
+    private List<Long> numbersOf(Pattern pattern) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private void deleteFilesBefore(long firstLiveSegment) {
+        try {
+            for (long number : numbersOf(SEGMENT_PATTERN)) {
+                if (number < firstLiveSegment) {
+                    Files.deleteIfExists(segmentPath(number));
+                }
+            }
+            for (long number : numbersOf(CHECKPOINT_PATTERN)) {
+                if (number < firstLiveSegment) {
+                    Files.deleteIfExists(checkpointPath(number));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (checkpointScheduler != null) {
+            checkpointScheduler.shutdownNow();
+        }
+        enqueue(PendingWrite.sync()).join();
+        writer.interrupt();
+        try {
+            segment.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    interface SegmentOpener {
+        FileChannel open(Path path) throws IOException;
+    }
+
+    private record PendingWrite(ByteBuffer record, boolean rollSegment, CompletableFuture<Void> durable) {
+        private void complete() {
+            durable.complete(null);
+        }
+
+        private static PendingWrite record(ByteBuffer record) {
+            return new PendingWrite(record, false, new CompletableFuture<>());
+        }
+
+        private static PendingWrite sync() {
+            return record(ByteBuffer.allocate(0));
+        }
+
+        private static PendingWrite roll() {
+            return new PendingWrite(null, true, new CompletableFuture<>());
+        }
+    }
+}
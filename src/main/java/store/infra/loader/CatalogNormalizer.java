@@ -0,0 +1,43 @@
+package store.infra.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import store.domain.Product;
+
+public final class CatalogNormalizer {
+    private CatalogNormalizer() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static List<Product> normalize(List<Product> products) {
+        Map<String, ProductLots> lotsByName = new LinkedHashMap<>();
+        products.forEach(product -> lotsByName.computeIfAbsent(product.getName(), name -> new ProductLots())
+                .add(product));
+
+        List<Product> normalized = new ArrayList<>(products.size() + lotsByName.size());
+        lotsByName.values().forEach(lots -> lots.appendTo(normalized));
+        return Collections.unmodifiableList(normalized);
+    }
+
+    private static final class ProductLots {
+        private final List<Product> lots = new ArrayList<>(2);
+        private boolean hasNormalLot;
+
+        private void add(Product product) {
+            lots.add(product);
+            hasNormalLot |= !product.promotionNotNull();
+        }
+
+        private void appendTo(List<Product> normalized) {
+            lots.stream().filter(Product::promotionNotNull).forEach(normalized::add);
+            lots.stream().filter(lot -> !lot.promotionNotNull()).forEach(normalized::add);
+            if (!hasNormalLot) {
+                Product promotionLot = lots.getFirst();
+                normalized.add(new Product(promotionLot.getName(), promotionLot.getPrice(), 0, null));
+            }
+        }
+    }
+}
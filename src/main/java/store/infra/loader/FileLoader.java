@@ -8,17 +8,29 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import store.infra.InfraErrorMessage;
+import store.infra.InfraException;
 
 public abstract class FileLoader<T> {
     protected static final String DELIMITER = ",";
     protected static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private final ReadMode readMode;
+
+    protected FileLoader() {
+        this(ReadMode.READ_ALL_LINES);
+    }
+
+    protected FileLoader(ReadMode readMode) {
+        this.readMode = readMode;
+    }
+
     protected List<String> readFileLines(String filePath) {
-        Path path = Paths.get(filePath);
-        if (!Files.exists(path)) {
-            throw new IllegalArgumentException(InfraErrorMessage.FILE_NOT_FOUND.getMessage());
-        }
+        Path path = getExistingPath(filePath);
         try {
             return Files.readAllLines(path);
         } catch (IOException e) {
@@ -26,19 +38,66 @@ public abstract class FileLoader<T> {
         }
     }
 
+    protected Stream<String> streamFileLines(String filePath) {
+        Path path = getExistingPath(filePath);
+        try {
+            MappedLineReader reader = new MappedLineReader(path);
+            Spliterator<String> lines = Spliterators.spliteratorUnknownSize(reader,
+                    Spliterator.ORDERED | Spliterator.NONNULL);
+            return StreamSupport.stream(lines, false).onClose(reader::close);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private static Path getExistingPath(String filePath) {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_NOT_FOUND.getMessage());
+        }
+        return path;
+    }
+
+    protected List<T> readAndParse(String filePath) {
+        if (readMode == ReadMode.PARALLEL) {
+            return parseInParallel(filePath).rowsOrThrow();
+        }
+        if (readMode == ReadMode.MEMORY_MAPPED) {
+            try (Stream<String> lines = streamFileLines(filePath)) {
+                return parseLines(lines);
+            }
+        }
+        return parseLines(readFileLines(filePath));
+    }
+
+    protected LoadReport<T> parseInParallel(String filePath) {
+        Path path = getExistingPath(filePath);
+        return new ParallelFileParser<>(this::parseRow, getRowFormatError()).parse(path);
+    }
+
     protected int parseInteger(String value) {
         try {
             return Integer.parseInt(value.trim());
         } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(InfraErrorMessage.INVALID_INTEGER.getMessage());
+            throw new InfraException(InfraErrorMessage.INVALID_INTEGER);
         }
     }
 
     protected String[] getDeclaredFields(String line, int expectedFieldCount) {
-        String[] fields = line.split(DELIMITER);
-        if (fields.length != expectedFieldCount) {
-            throw new IllegalArgumentException(InfraErrorMessage.INVALID_PROMOTION_FORMAT.getMessage());
+        String[] fields = new String[expectedFieldCount];
+        int start = 0;
+        for (int index = 0; index < expectedFieldCount - 1; index++) {
+            int end = line.indexOf(DELIMITER, start);
+            if (end < 0) {
+                throw new InfraException(getRowFormatError());
+            }
+            fields[index] = line.substring(start, end);
+            start = end + DELIMITER.length();
+        }
+        if (line.indexOf(DELIMITER, start) >= 0) {
+            throw new InfraException(getRowFormatError());
         }
+        fields[expectedFieldCount - 1] = line.substring(start);
         return fields;
     }
 
@@ -46,11 +105,25 @@ public abstract class FileLoader<T> {
         try {
             return LocalDate.parse(value.trim(), DATE_FORMAT).atStartOfDay();
         } catch (Exception e) {
-            throw new IllegalArgumentException(InfraErrorMessage.INVALID_DATE_FORMAT.getMessage());
+            throw new InfraException(InfraErrorMessage.INVALID_DATE_FORMAT);
         }
     }
 
+    protected List<T> parseLines(Stream<String> lines) {
+        return parseLines(lines.toList());
+    }
+
     protected abstract List<T> parseLines(List<String> lines);
 
+    protected abstract T parseRow(String line);
+
+    protected abstract InfraErrorMessage getRowFormatError();
+
     protected abstract List<T> load(String filePath);
+
+    public enum ReadMode {
+        READ_ALL_LINES,
+        MEMORY_MAPPED,
+        PARALLEL
+    }
 }
@@ -0,0 +1,6 @@
+package store.infra.loader;
+
+import store.infra.InfraErrorMessage;
+
+public record LoadError(long lineNumber, InfraErrorMessage errorMessage) {
+}
@@ -0,0 +1,18 @@
+package store.infra.loader;
+
+import java.util.List;
+import store.infra.InfraException;
+
+public record LoadReport<T>(List<T> rows, List<LoadError> errors) {
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    // 순차 로드처럼 첫 번째로 잘못된 행에서 실패한다
+    public List<T> rowsOrThrow() {
+        if (hasErrors()) {
+            throw new InfraException(errors.get(0).errorMessage());
+        }
+        return rows;
+    }
+}
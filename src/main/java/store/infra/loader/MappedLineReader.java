@@ -0,0 +1,131 @@
+package store.infra.loader;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import store.infra.InfraErrorMessage;
+
+class MappedLineReader implements Iterator<String>, AutoCloseable {
+    static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private String nextLine;
+
+    MappedLineReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedLineReader(Path path, long windowSize) throws IOException {
+        this(path, 0, Long.MAX_VALUE, windowSize);
+    }
+
+    MappedLineReader(Path path, long start, long end, long windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = Math.min(end, channel.size());
+        this.windowSize = windowSize;
+        this.position = start;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readLine();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
+    }
+
+    private String readLine() {
+        if (position >= fileSize) {
+            return null;
+        }
+        long lineEnd = findLineFeed();
+        String line = decode(position, lineEnd);
+        position = Math.min(lineEnd + 1, fileSize);
+        return line;
+    }
+
+    private long findLineFeed() {
+        long cursor = position;
+        while (cursor < fileSize) {
+            if (cursor >= windowStart + mappedLength()) {
+                remap(cursor);
+            }
+            if (window.get((int) (cursor - windowStart)) == LINE_FEED) {
+                return cursor;
+            }
+            cursor++;
+        }
+        return fileSize;
+    }
+
+    private String decode(long start, long end) {
+        long length = end - start;
+        if (length > 0 && byteAt(end - 1) == CARRIAGE_RETURN) {
+            length--;
+        }
+        if (length > windowSize) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        if (start < windowStart || start + length > windowStart + mappedLength()) {
+            remap(start);
+        }
+        byte[] bytes = new byte[(int) length];
+        window.get((int) (start - windowStart), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte byteAt(long offset) {
+        if (offset < windowStart || offset >= windowStart + mappedLength()) {
+            remap(offset);
+        }
+        return window.get((int) (offset - windowStart));
+    }
+
+    private long mappedLength() {
+        if (window == null) {
+            return 0;
+        }
+        return window.capacity();
+    }
+
+    private void remap(long start) {
+        try {
+            long length = Math.min(windowSize, fileSize - start);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            windowStart = start;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package store.infra.loader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import store.infra.InfraErrorMessage;
+import store.infra.InfraException;
+
+class ParallelFileParser<T> {
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final byte LINE_FEED = '\n';
+
+    private final Function<String, T> rowParser;
+    private final InfraErrorMessage defaultError;
+    private final ForkJoinPool pool;
+    private final long minChunkSize;
+
+    ParallelFileParser(Function<String, T> rowParser, InfraErrorMessage defaultError) {
+        this(rowParser, defaultError, ForkJoinPool.commonPool(), MIN_CHUNK_SIZE);
+    }
+
+    ParallelFileParser(Function<String, T> rowParser, InfraErrorMessage defaultError, ForkJoinPool pool,
+                       long minChunkSize) {
+        this.rowParser = rowParser;
+        this.defaultError = defaultError;
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    LoadReport<T> parse(Path path) {
+        List<Long> boundaries = splitOnLineBoundaries(path);
+        List<ForkJoinTask<ChunkResult<T>>> chunks = new ArrayList<>(boundaries.size() - 1);
+        for (int index = 0; index < boundaries.size() - 1; index++) {
+            long start = boundaries.get(index);
+            long end = boundaries.get(index + 1);
+            chunks.add(pool.submit(() -> parseChunk(path, start, end)));
+        }
+        // 청크는 병렬로 파싱하되 파일 순서대로 합쳐 라인 번호를 이어 붙인다
+        ChunkResult<T> result = new ChunkResult<>();
+        chunks.forEach(chunk -> result.append(chunk.join()));
+        return new LoadReport<>(List.copyOf(result.rows), List.copyOf(result.errors));
+    }
+
+    private List<Long> splitOnLineBoundaries(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long chunkSize = Math.max(minChunkSize, fileSize / ((long) pool.getParallelism() * CHUNKS_PER_WORKER));
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(0L);
+            long boundary = nextLineStart(channel, chunkSize, fileSize);
+            while (boundary < fileSize) {
+                boundaries.add(boundary);
+                boundary = nextLineStart(channel, boundary + chunkSize, fileSize);
+            }
+            boundaries.add(fileSize);
+            return boundaries;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long fileSize) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        while (position < fileSize) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            for (int index = 0; index < read; index++) {
+                if (buffer.get(index) == LINE_FEED) {
+                    return position + index + 1;
+                }
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+    private ChunkResult<T> parseChunk(Path path, long start, long end) {
+        ChunkResult<T> result = new ChunkResult<>();
+        try (MappedLineReader reader = new MappedLineReader(path, start, end, MappedLineReader.DEFAULT_WINDOW_SIZE)) {
+            while (reader.hasNext()) {
+                parseRow(reader.next(), start == 0 && result.lineCount == 0, result);
+                result.lineCount++;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(InfraErrorMessage.FILE_READ_FAILED.getMessage());
+        }
+        return result;
+    }
+
+    private void parseRow(String line, boolean header, ChunkResult<T> result) {
+        if (header) {
+            return;
+        }
+        try {
+            result.rows.add(rowParser.apply(line));
+        } catch (InfraException e) {
+            result.errors.add(new LoadError(result.lineCount + 1, e.getErrorMessage()));
+        } catch (IllegalArgumentException e) {
+            result.errors.add(new LoadError(result.lineCount + 1, defaultError));
+        }
+    }
+
+    private static final class ChunkResult<T> {
+        private final List<T> rows = new ArrayList<>();
+        private final List<LoadError> errors = new ArrayList<>();
+        private long lineCount;
+
+        private void append(ChunkResult<T> next) {
+            rows.addAll(next.rows);
+            next.errors.forEach(error -> errors.add(
+                    new LoadError(error.lineNumber() + lineCount, error.errorMessage())));
+            lineCount += next.lineCount;
+        }
+    }
+}
@@ -2,52 +2,67 @@ package store.infra.loader;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import store.domain.Product;
 import store.domain.Promotion;
+import store.infra.InfraErrorMessage;
 import store.infra.PromotionFactory;
 
 public class ProductLoader extends FileLoader<Product> {
+    public static final String FILE_PATH = "src/main/resources/products.md";
     private static final int EXPECTED_FIELD_COUNT = 4;
-    private static final String FILE_PATH = "src/main/resources/products.md";
 
     private final PromotionFactory promotionFactory;
 
     public ProductLoader(PromotionFactory promotionFactory) {
+        this(promotionFactory, ReadMode.READ_ALL_LINES);
+    }
+
+    public ProductLoader(PromotionFactory promotionFactory, ReadMode readMode) {
+        super(readMode);
         this.promotionFactory = promotionFactory;
     }
 
     @Override
     protected List<Product> load(String filePath) {
-        List<String> lines = readFileLines(filePath);
-        return parseLines(lines);
+        return readAndParse(filePath);
     }
 
     public List<Product> loadFileProducts() {
         return new ArrayList<>(load(FILE_PATH));
     }
 
+    // 잘못된 행을 모두 모아 보고하되, 정상 행은 순차 로드와 같이 정규화해 돌려준다
+    public LoadReport<Product> loadProductsInParallel() {
+        LoadReport<Product> report = parseInParallel(FILE_PATH);
+        return new LoadReport<>(CatalogNormalizer.normalize(report.rows()), report.errors());
+    }
+
     public List<Product> loadProducts() {
-        List<Product> products = loadFileProducts();
-        List<Product> promotionProducts = products.stream().filter(Product::promotionNotNull).toList();
+        return CatalogNormalizer.normalize(loadFileProducts());
+    }
 
-        promotionProducts.stream()
-                .filter(each -> products.stream().noneMatch(all -> isPromotionExistsAndNormalDont(each, all)))
-                .map(each -> new Product(each.getName(), each.getPrice(), 0, null))
-                .forEach(products::add);
+    public List<Product> loadProducts(String filePath) {
+        return CatalogNormalizer.normalize(load(filePath));
+    }
 
-        return List.copyOf(products);
+    @Override
+    protected List<Product> parseLines(List<String> lines) {
+        return parseLines(lines.stream());
     }
 
-    private static boolean isPromotionExistsAndNormalDont(Product each, Product all) {
-        return all.getName().equals(each.getName()) && !all.promotionNotNull();
+    @Override
+    protected List<Product> parseLines(Stream<String> lines) {
+        return lines.skip(1).map(this::parseRow).toList();
     }
 
     @Override
-    protected List<Product> parseLines(List<String> lines) {
-        return lines.stream().skip(1).map(this::createProduct).toList();
+    protected InfraErrorMessage getRowFormatError() {
+        return InfraErrorMessage.INVALID_PRODUCT_FORMAT;
     }
 
-    private Product createProduct(String line) {
+    @Override
+    protected Product parseRow(String line) {
         String[] fields = getDeclaredFields(line, EXPECTED_FIELD_COUNT);
         String name = fields[0].trim();
         int price = parseInteger(fields[1]);
@@ -2,31 +2,55 @@ package store.infra.loader;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import store.domain.Promotion;
+import store.infra.InfraErrorMessage;
 
 public class PromotionLoader extends FileLoader<Promotion> {
+    public static final String FILE_PATH = "src/main/resources/promotions.md";
     private static final int EXPECTED_FIELD_COUNT = 5;
-    private static final String FILE_PATH = "src/main/resources/promotions.md";
+
+    public PromotionLoader() {
+        this(ReadMode.READ_ALL_LINES);
+    }
+
+    public PromotionLoader(ReadMode readMode) {
+        super(readMode);
+    }
 
     public List<Promotion> loadPromotions() {
         return load(FILE_PATH);
     }
 
+    public LoadReport<Promotion> loadPromotionsInParallel() {
+        return parseInParallel(FILE_PATH);
+    }
+
     @Override
     protected List<Promotion> load(String filePath) {
-        List<String> lines = readFileLines(filePath);
-        return parseLines(lines);
+        return readAndParse(filePath);
     }
 
     @Override
     protected List<Promotion> parseLines(List<String> lines) {
-        return lines.stream()
+        return parseLines(lines.stream());
+    }
+
+    @Override
+    protected List<Promotion> parseLines(Stream<String> lines) {
+        return lines
                 .skip(1) // Skip header
-                .map(this::createPromotion)
+                .map(this::parseRow)
                 .toList();
     }
 
-    private Promotion createPromotion(String line) {
+    @Override
+    protected InfraErrorMessage getRowFormatError() {
+        return InfraErrorMessage.INVALID_PROMOTION_FORMAT;
+    }
+
+    @Override
+    protected Promotion parseRow(String line) {
         String[] fields = getDeclaredFields(line, EXPECTED_FIELD_COUNT);
         String name = fields[0].trim();
         int buyQuantity = parseInteger(fields[1]);
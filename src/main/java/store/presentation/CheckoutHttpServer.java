@@ -0,0 +1,264 @@
+package store.presentation;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import store.application.AdmissionController;
+import store.application.AdmissionStats;
+import store.application.ApplicationErrorMessage;
+import store.application.CheckoutPipeline;
+import store.application.ConvenienceStoreService;
+import store.application.QuoteStats;
+import store.domain.DomainErrorMessage;
+import store.domain.InMemoryMemberShipLedger;
+import store.domain.LinePlan;
+import store.domain.ListingStats;
+import store.domain.MemberShip;
+import store.domain.MemberShipLedger;
+import store.domain.Order;
+
+public class CheckoutHttpServer implements AutoCloseable {
+    private static final int BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CONFLICT = 409;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONTENT_TYPE = "text/plain; charset=UTF-8";
+    private static final String QUERY_DELIMITER = "&";
+    private static final String PARAMETER_DELIMITER = "=";
+    private static final String MEMBERSHIP_PARAMETER = "membership";
+    private static final String MEMBERSHIP_REQUESTED = "Y";
+    private static final String MEMBER_PARAMETER = "member";
+    private static final String QUOTE_HEADER = "name,quantity,unclaimedFreeItem,fallbackToNormal";
+    private static final String ADMISSION_HEADER = "limit,inFlight,admitted,rejected";
+    private static final String QUOTE_STATS_HEADER = "hits,misses,evictions,size,hitRatio";
+    private static final String LISTING_STATS_HEADER = "hits,misses,renderedRows,renderNanos";
+
+    private final ConvenienceStoreService convenienceStoreService;
+    private final Checkout checkout;
+    private final AdmissionController admissionController;
+    private final MemberShipLedger memberShipLedger;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CheckoutHttpServer(ConvenienceStoreService convenienceStoreService, int port) throws IOException {
+        this(convenienceStoreService, new AdmissionController(), new InMemoryMemberShipLedger(), port);
+    }
+
+    public CheckoutHttpServer(ConvenienceStoreService convenienceStoreService,
+                              AdmissionController admissionController, MemberShipLedger memberShipLedger,
+                              int port) throws IOException {
+        this(convenienceStoreService, (userOrderInput, memberShip) ->
+                convenienceStoreService.checkout(userOrderInput, memberShip, now()),
+                admissionController, memberShipLedger, port);
+    }
+
+    public CheckoutHttpServer(ConvenienceStoreService convenienceStoreService, CheckoutPipeline checkoutPipeline,
+                              AdmissionController admissionController, MemberShipLedger memberShipLedger,
+                              int port) throws IOException {
+        this(convenienceStoreService, (userOrderInput, memberShip) -> submit(
+                checkoutPipeline, convenienceStoreService.createOrder(userOrderInput, now()), memberShip),
+                admissionController, memberShipLedger, port);
+    }
+
+    private CheckoutHttpServer(ConvenienceStoreService convenienceStoreService, Checkout checkout,
+                               AdmissionController admissionController, MemberShipLedger memberShipLedger,
+                               int port) throws IOException {
+        this.convenienceStoreService = convenienceStoreService;
+        this.checkout = checkout;
+        this.admissionController = admissionController;
+        this.memberShipLedger = memberShipLedger;
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        server.createContext("/stocks", route(GET, exchange -> convenienceStoreService.getStocks()));
+        server.createContext("/quote", route(POST, exchange -> quote(readBody(exchange))));
+        server.createContext("/commit", route(POST, this::commit));
+        server.createContext("/admission", route(GET, exchange -> formatAdmission()));
+        server.createContext("/quote-stats", route(GET, exchange -> formatQuoteStats()));
+        server.createContext("/listing-stats", route(GET, exchange -> formatListingStats()));
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private String quote(String userOrderInput) {
+        List<String> lines = convenienceStoreService.quote(userOrderInput, now()).stream()
+                .map(CheckoutHttpServer::formatQuote)
+                .toList();
+        return QUOTE_HEADER + System.lineSeparator() + String.join(System.lineSeparator(), lines);
+    }
+
+    private static String formatQuote(LinePlan plan) {
+        int fallbackCount = 0;
+        if (plan.hasFallbackToNormal()) {
+            fallbackCount = plan.fallbackCount();
+        }
+        return String.join(",", plan.productName(), String.valueOf(plan.quantity()),
+                String.valueOf(plan.unclaimedFreeItem()), String.valueOf(fallbackCount));
+    }
+
+    private String commit(HttpExchange exchange) throws IOException {
+        MemberShip memberShip = memberShipOf(exchange.getRequestURI().getRawQuery());
+        String userOrderInput = readBody(exchange);
+        return admissionController.admit(() -> checkout.checkout(userOrderInput, memberShip));
+    }
+
+    private MemberShip memberShipOf(String rawQuery) {
+        Map<String, String> parameters = parseQuery(rawQuery);
+        String membership = parameters.get(MEMBERSHIP_PARAMETER);
+        if (membership != null && !MEMBERSHIP_REQUESTED.equals(membership)) {
+            return MemberShip.NONE;
+        }
+        String memberId = parameters.get(MEMBER_PARAMETER);
+        if (memberId != null && !memberId.isBlank()) {
+            return memberShipLedger.memberShipOf(memberId);
+        }
+        if (membership != null) {
+            // 요청마다 새 한도를 만들면 한도가 지켜지지 않으므로 회원 번호로만 한도를 찾는다
+            throw new IllegalArgumentException(PresentationErrorMessage.MEMBER_ID_REQUIRED.getMessage());
+        }
+        return MemberShip.NONE;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split(QUERY_DELIMITER)) {
+            String[] nameAndValue = pair.split(PARAMETER_DELIMITER, 2);
+            String value = "";
+            if (nameAndValue.length == 2) {
+                value = decode(nameAndValue[1]);
+            }
+            parameters.putIfAbsent(decode(nameAndValue[0]), value);
+        }
+        return parameters;
+    }
+
+    private static String decode(String encoded) {
+        return URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+    }
+
+    private String formatAdmission() {
+        AdmissionStats stats = admissionController.getStats();
+        return ADMISSION_HEADER + System.lineSeparator() + String.join(",", String.valueOf(stats.limit()),
+                String.valueOf(stats.inFlight()), String.valueOf(stats.admitted()), String.valueOf(stats.rejected()));
+    }
+
+    private String formatQuoteStats() {
+        QuoteStats stats = convenienceStoreService.getQuoteStats();
+        return QUOTE_STATS_HEADER + System.lineSeparator() + String.join(",", String.valueOf(stats.hits()),
+                String.valueOf(stats.misses()), String.valueOf(stats.evictions()), String.valueOf(stats.size()),
+                String.format("%.3f", stats.hitRatio()));
+    }
+
+    private String formatListingStats() {
+        ListingStats stats = convenienceStoreService.getListingStats();
+        return LISTING_STATS_HEADER + System.lineSeparator() + String.join(",", String.valueOf(stats.hits()),
+                String.valueOf(stats.misses()), String.valueOf(stats.renderedRows()),
+                String.valueOf(stats.renderNanos()));
+    }
+
+    private static String submit(CheckoutPipeline checkoutPipeline, Order order, MemberShip memberShip) {
+        try {
+            return checkoutPipeline.submit(order, memberShip).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static LocalDateTime now() {
+        return DateTimes.now();
+    }
+
+    private static HttpHandler route(String method, ExchangeHandler handler) {
+        return exchange -> {
+            try {
+                if (!method.equals(exchange.getRequestMethod())) {
+                    respond(exchange, METHOD_NOT_ALLOWED, method);
+                    return;
+                }
+                respond(exchange, OK, handler.handle(exchange));
+            } catch (IllegalArgumentException e) {
+                respond(exchange, statusOf(e), e.getMessage());
+            } catch (RuntimeException e) {
+                respond(exchange, statusOf(e), String.valueOf(e.getMessage()));
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private static int statusOf(RuntimeException e) {
+        if (ApplicationErrorMessage.CHECKOUT_OVERLOADED.getMessage().equals(e.getMessage())) {
+            return SERVICE_UNAVAILABLE;
+        }
+        return INTERNAL_SERVER_ERROR;
+    }
+
+    private static int statusOf(IllegalArgumentException e) {
+        if (DomainErrorMessage.QUANTITY_EXCEEDED.getMessage().equals(e.getMessage())) {
+            return CONFLICT;
+        }
+        return BAD_REQUEST;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface Checkout {
+        String checkout(String userOrderInput, MemberShip memberShip);
+    }
+
+    @FunctionalInterface
+    private interface ExchangeHandler {
+        String handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -3,8 +3,8 @@ package store.presentation;
 import camp.nextstep.edu.missionutils.DateTimes;
 import java.time.LocalDateTime;
 import store.application.ConvenienceStoreService;
-import store.application.ReceiptFormatter;
 import store.application.RetryHandler;
+import store.domain.LinePlan;
 import store.domain.MemberShip;
 import store.domain.OrderProduct;
 import store.domain.Order;
@@ -43,18 +43,16 @@ public class ConvenienceStoreController {
         printStart();
         Order order = RetryHandler.retry(() -> convenienceStoreService.retrieveOrderFromInput(inputView.getOrder(), currentOrderDate));
         processOrderDetails(order);
-        ReceiptFormatter receiptFormatter = finalizePurchase(order, membership, isMembershipDiscountApplicable());
-        outputView.printReceipt(receiptFormatter.format());
-        order.decreaseAmount();
+        MemberShip appliedMemberShip = finalizePurchase(membership, isMembershipDiscountApplicable());
+        outputView.printReceipt(convenienceStoreService.checkout(order, appliedMemberShip));
     }
 
-    private ReceiptFormatter finalizePurchase(Order order, MemberShip memberShip, boolean memberShipApplicable) {
+    private MemberShip finalizePurchase(MemberShip memberShip, boolean memberShipApplicable) {
         if (memberShipApplicable) {
-            int discount = memberShip.applyDiscount(order);
-            return new ReceiptFormatter(order, discount);
+            return memberShip;
         }
 
-        return new ReceiptFormatter(order, 0);
+        return MemberShip.NONE;
     }
 
     private void processOrderDetails(Order order) {
@@ -63,11 +61,12 @@ public class ConvenienceStoreController {
     }
 
     private void handleFallbackItems(OrderProduct orderProduct) {
-        if (!orderProduct.hasFallbackToNormal()) {
+        LinePlan plan = orderProduct.getPlan();
+        if (!plan.hasFallbackToNormal()) {
             return;
         }
 
-        int fallbackItemCount = orderProduct.countFallbackToNormal();
+        int fallbackItemCount = plan.fallbackCount();
         String fallbackPurchaseDecision = inputView.askToPurchaseNormalItems(orderProduct.getProductName(), fallbackItemCount);
         if (fallbackPurchaseDecision.equalsIgnoreCase("N")) {
             orderProduct.subtract(fallbackItemCount);
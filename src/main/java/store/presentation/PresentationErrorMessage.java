@@ -8,6 +8,7 @@ public enum PresentationErrorMessage {
     BLANK_INPUT("입력값이 비어 있습니다. 다시 입력해 주세요."),
     DUPLICATED_PRODUCT_NAME("중복된 상품이 있습니다. 다시 입력 해 주세요"),
     NULL_LINE_PROVIDED("라인이 없습니다. 시스템을 종료합니다."),
+    MEMBER_ID_REQUIRED("멤버십 할인은 회원 번호(member=...)와 함께 요청해 주세요."),
     ;
 
     private static final String ERROR_PREFIX = "[ERROR] ";
@@ -14,4 +14,8 @@ public class OutputView {
     public void printReceipt(String receipt) {
         System.out.println(receipt);
     }
+
+    public void printError(String message) {
+        System.out.println(message);
+    }
 }
@@ -0,0 +1,89 @@
+package store.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerTest {
+
+    @Test
+    @DisplayName("동시 처리 한도를 넘는 요청은 대기하지 않고 즉시 거절된다")
+    void rejectsImmediatelyWhenLimitReached() throws InterruptedException {
+        AdmissionController admissionController = new AdmissionController(1, 1, 1, Duration.ofSeconds(1));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> admissionController.admit(() -> {
+            entered.countDown();
+            awaitQuietly(release);
+            return "영수증";
+        }));
+        entered.await();
+
+        assertThatThrownBy(() -> admissionController.admit(() -> "영수증"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ApplicationErrorMessage.CHECKOUT_OVERLOADED.getMessage());
+        release.countDown();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(running.join()).isEqualTo("영수증");
+            softly.assertThat(admissionController.getStats()).isEqualTo(new AdmissionStats(1, 0, 1, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("목표 지연을 넘긴 요청이 끝나면 한도를 곱셈으로 줄인다")
+    void decreasesLimitWhenLatencyExceedsTarget() {
+        AdmissionController admissionController = new AdmissionController(20, 4, 100, Duration.ZERO);
+
+        admissionController.admit(() -> sleepQuietly(1));
+
+        assertThat(admissionController.getStats().limit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("한도를 모두 쓴 요청이 빠르게 끝나면 한도를 1 늘리고, 여유가 있으면 그대로 둔다")
+    void increasesLimitAdditivelyOnlyWhenSaturated() {
+        AdmissionController admissionController = new AdmissionController(1, 1, 3, Duration.ofSeconds(1));
+
+        for (int count = 0; count < 5; count++) {
+            admissionController.admit(() -> "영수증");
+        }
+
+        assertThat(admissionController.getStats().limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최소 한도가 1 미만이거나 한도 순서가 맞지 않으면 예외가 발생한다")
+    void rejectsInvalidLimits() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> new AdmissionController(1, 0, 1, Duration.ofMillis(1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(ApplicationErrorMessage.INVALID_ADMISSION_LIMIT.getMessage());
+            softly.assertThatThrownBy(() -> new AdmissionController(10, 1, 5, Duration.ofMillis(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "영수증";
+    }
+}
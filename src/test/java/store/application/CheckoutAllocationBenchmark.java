@@ -0,0 +1,60 @@
+package store.application;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import store.domain.MemberShip;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.PromotionCalendar;
+import store.domain.PromotionDay;
+
+@Tag("benchmark")
+class CheckoutAllocationBenchmark {
+    private static final int WARMUP_CHECKOUTS = 50_000;
+    private static final int MEASURED_CHECKOUTS = 100_000;
+    // 주문 줄을 LinePlan 으로 한 번만 평가하기 전의 코드에서 같은 작업을 측정한 기준선은 건당 약 17,670바이트다.
+    // 지금은 약 14,960바이트이므로, 기준선보다 10% 이상 덜 할당하지 못하면 그 개선이 사라진 것으로 본다.
+    private static final long PRE_CHANGE_BYTES_PER_CHECKOUT = 17_670;
+    private static final long BYTES_PER_CHECKOUT_BUDGET = PRE_CHANGE_BYTES_PER_CHECKOUT * 9 / 10;
+
+    @Test
+    @DisplayName("주문 한 건을 평가하고 영수증을 만드는 동안 할당하는 바이트 수가 예산을 넘지 않는다")
+    void allocationPerCheckout() {
+        Promotion promotion = new Promotion("2+1", 2, 1, LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(1));
+        List<Product> cola = List.of(new Product("콜라", 1000, 10, promotion), new Product("콜라", 1000, 10, null));
+        List<Product> water = List.of(new Product("물", 500, 10, null));
+        PromotionCalendar promotionCalendar = PromotionCalendar.of(List.of(cola.get(0), cola.get(1), water.get(0)));
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        checkout(promotionCalendar, cola, water, WARMUP_CHECKOUTS);
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        checkout(promotionCalendar, cola, water, MEASURED_CHECKOUTS);
+        long bytesPerCheckout = (threadMXBean.getCurrentThreadAllocatedBytes() - before) / MEASURED_CHECKOUTS;
+
+        System.out.printf("%,d bytes allocated per checkout%n", bytesPerCheckout);
+        Assertions.assertThat(bytesPerCheckout).isLessThanOrEqualTo(BYTES_PER_CHECKOUT_BUDGET);
+    }
+
+    // 서비스처럼 주문마다 달력에서 그날의 PromotionDay 를 받아 모든 줄이 함께 쓴다
+    private static void checkout(PromotionCalendar promotionCalendar, List<Product> cola, List<Product> water,
+                                 int count) {
+        LocalDateTime orderDate = LocalDateTime.now();
+        for (int index = 0; index < count; index++) {
+            PromotionDay promotionDay = promotionCalendar.dayOf(orderDate);
+            Order order = new Order(List.of(new OrderProduct(cola, 12, promotionDay),
+                    new OrderProduct(water, 3, promotionDay)));
+            order.getUnclaimedFreeItemOrder();
+            order.getFallBackToNormalOrders();
+            new ReceiptFormatter(order, new MemberShip().applyDiscount(order)).format();
+        }
+    }
+}
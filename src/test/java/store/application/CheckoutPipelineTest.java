@@ -0,0 +1,125 @@
+package store.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.DomainErrorMessage;
+import store.domain.MemberShip;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+import store.domain.StockJournal;
+
+class CheckoutPipelineTest {
+    private CheckoutPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new CheckoutPipeline(StockJournal.NONE, 4);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    private Order orderOf(Product product, int quantity) {
+        return new Order(List.of(new OrderProduct(List.of(product), quantity, DateTimes.now())));
+    }
+
+    @Test
+    @DisplayName("단일 writer 가 재고를 차감하고 멤버십 할인이 반영된 영수증을 돌려준다")
+    void submitCommitsOrderAndRendersReceipt() {
+        Product water = new Product("물", 1000, 10, null);
+
+        String receipt = pipeline.submit(orderOf(water, 3), new MemberShip()).join();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(water.getQuantity()).isEqualTo(7);
+            softly.assertThat(receipt).contains("멤버십할인\t\t-900");
+            softly.assertThat(receipt).contains("내실돈\t\t2,100");
+        });
+    }
+
+    @Test
+    @DisplayName("재고가 부족해진 주문은 재고를 건드리지 않고 예외로 완료된다")
+    void conflictingOrderCompletesExceptionally() {
+        Product water = new Product("물", 1000, 5, null);
+        Order first = orderOf(water, 4);
+        Order second = orderOf(water, 4);
+
+        pipeline.submit(first, MemberShip.NONE).join();
+        CompletableFuture<String> conflicted = pipeline.submit(second, MemberShip.NONE);
+
+        assertThatThrownBy(conflicted::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+        assertThat(water.getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 충돌로 실패한 주문은 멤버십 한도를 쓰지 않는다")
+    void conflictingOrderKeepsMemberShipCap() {
+        Product water = new Product("물", 1000, 5, null);
+        Order conflicting = orderOf(water, 5);
+        water.decrease(1);
+        MemberShip memberShip = new MemberShip();
+
+        CompletableFuture<String> receipt = pipeline.submit(conflicting, memberShip);
+
+        assertThatThrownBy(receipt::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(memberShip.getRemainingAmount()).isEqualTo(MemberShip.ELIGIBLE_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("링 용량보다 많은 주문이 동시에 들어와도 초과 판매 없이 순서대로 처리된다")
+    void concurrentProducersNeverOversell() {
+        Product water = new Product("물", 1000, 10, null);
+        List<Order> orders = IntStream.range(0, 20)
+                .mapToObj(index -> orderOf(water, 1))
+                .toList();
+
+        List<CompletableFuture<String>> receipts = orders.parallelStream()
+                .map(order -> pipeline.submit(order, MemberShip.NONE))
+                .toList();
+        long committed = receipts.stream()
+                .filter(receipt -> !receipt.handle((value, error) -> error != null).join())
+                .count();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(committed).isEqualTo(10);
+            softly.assertThat(water.getQuantity()).isZero();
+            softly.assertThat(pipeline.getCommittedCount()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    @DisplayName("닫힐 때 아직 반영하지 않은 주문과 닫힌 뒤의 주문은 예외로 완료된다")
+    void closeCompletesPendingReceiptsExceptionally() {
+        CheckoutPipeline stopped = new CheckoutPipeline(StockJournal.NONE, 4);
+        Product water = new Product("물", 1000, 10, null);
+
+        CompletableFuture<String> pending = stopped.submit(orderOf(water, 3), MemberShip.NONE);
+        stopped.close();
+        CompletableFuture<String> afterClose = stopped.submit(orderOf(water, 1), MemberShip.NONE);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(pending::join).hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(ApplicationErrorMessage.CHECKOUT_CLOSED.getMessage());
+            softly.assertThatThrownBy(afterClose::join).hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(ApplicationErrorMessage.CHECKOUT_CLOSED.getMessage());
+            softly.assertThat(water.getQuantity()).isEqualTo(10);
+        });
+    }
+}
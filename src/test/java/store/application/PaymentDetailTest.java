@@ -0,0 +1,28 @@
+package store.application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class PaymentDetailTest {
+    @Test
+    @DisplayName("주문 합계와 멤버십 할인으로 결제 내역을 만들고 각 값을 제자리에 담는다")
+    void shouldBuildPaymentDetailFromTotals() {
+        Promotion promotion = new Promotion("2+1", 2, 1, LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(1));
+        Product cola = new Product("콜라", 1000, 10, promotion);
+        Product water = new Product("물", 500, 10, null);
+        Order order = new Order(List.of(new OrderProduct(List.of(cola), 6, LocalDateTime.now()),
+                new OrderProduct(List.of(water), 4, LocalDateTime.now())));
+
+        PaymentDetail paymentDetail = PaymentDetail.of(order, 600);
+
+        Assertions.assertThat(paymentDetail).isEqualTo(new PaymentDetail(8000, 2000, 10, 600, 5400));
+    }
+}
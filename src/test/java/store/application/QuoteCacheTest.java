@@ -0,0 +1,76 @@
+package store.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.LinePlan;
+
+class QuoteCacheTest {
+    private static final long EPOCH_DAY = 20_000;
+
+    private static QuoteKey keyOf(int quantity, int normalStock) {
+        return new QuoteKey("물", 500, null, EPOCH_DAY, quantity, 0, normalStock);
+    }
+
+    private static LinePlan planOf(int quantity) {
+        return new LinePlan("물", quantity, 500, false, 0, 0, 0, 500 * quantity, false);
+    }
+
+    @Test
+    @DisplayName("같은 상품, 수량, 재고, 날짜의 견적은 한 번만 계산한다")
+    void reusesPlanForSameKey() {
+        QuoteCache quoteCache = new QuoteCache();
+        AtomicInteger planned = new AtomicInteger();
+
+        LinePlan first = quoteCache.get(keyOf(3, 10), () -> planOf(planned.incrementAndGet() * 3));
+        LinePlan second = quoteCache.get(keyOf(3, 10), () -> planOf(planned.incrementAndGet() * 3));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(planned.get()).isEqualTo(1);
+            softly.assertThat(quoteCache.getStats()).isEqualTo(new QuoteStats(1, 1, 0, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("재고가 바뀌면 다른 키가 되어 견적을 다시 계산한다")
+    void recomputesWhenStockChanges() {
+        QuoteCache quoteCache = new QuoteCache();
+
+        quoteCache.get(keyOf(3, 10), () -> planOf(3));
+        quoteCache.get(keyOf(3, 7), () -> planOf(3));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(quoteCache.getStats().misses()).isEqualTo(2);
+            softly.assertThat(quoteCache.getStats().hits()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 쓰이지 않은 견적부터 밀어낸다")
+    void evictsLeastRecentlyUsed() {
+        QuoteCache quoteCache = new QuoteCache(2);
+        quoteCache.get(keyOf(1, 10), () -> planOf(1));
+        quoteCache.get(keyOf(2, 10), () -> planOf(2));
+        quoteCache.get(keyOf(1, 10), () -> planOf(1));
+
+        quoteCache.get(keyOf(3, 10), () -> planOf(3));
+        quoteCache.get(keyOf(1, 10), () -> planOf(1));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(quoteCache.getStats()).isEqualTo(new QuoteStats(2, 3, 1, 2));
+            softly.assertThat(quoteCache.getStats().hitRatio()).isEqualTo(0.4);
+        });
+    }
+
+    @Test
+    @DisplayName("용량이 1 미만이면 예외가 발생한다")
+    void rejectsInvalidCapacity() {
+        assertThatThrownBy(() -> new QuoteCache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ApplicationErrorMessage.INVALID_QUOTE_CACHE_CAPACITY.getMessage());
+    }
+}
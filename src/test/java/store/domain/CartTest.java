@@ -0,0 +1,106 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CartTest {
+    private Product colaPromo;
+    private Product cola;
+    private Product water;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        Promotion promotion = new Promotion("2+1", 2, 1, LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(1));
+        colaPromo = new Product("콜라", 1000, 6, promotion);
+        cola = new Product("콜라", 1000, 10, null);
+        water = new Product("물", 500, 10, null);
+        cart = new Cart(new InMemoryRepository(List.of(colaPromo, cola, water)), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("상품을 담을 때마다 프로모션, 합계, 멤버십 미리보기가 바로 갱신된다")
+    void addUpdatesRunningTotals() {
+        cart.add("콜라", 8);
+        cart.add("물", 4);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(cart.getTotals()).isEqualTo(new OrderTotals(10_000, 2000, 12, 4000));
+            softly.assertThat(cart.previewMemberShipDiscount(new MemberShip())).isEqualTo(1200);
+            softly.assertThat(cart.getLinePlans().getFirst().fallbackCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("수량 변경과 삭제는 해당 줄만 다시 계산해 합계를 갱신한다")
+    void changeAndRemoveUpdateRunningTotals() {
+        cart.add("콜라", 8);
+        cart.add("물", 4);
+
+        cart.changeQuantity("콜라", 3);
+        OrderTotals afterChange = cart.getTotals();
+        cart.remove("물");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(afterChange).isEqualTo(new OrderTotals(5000, 1000, 7, 2000));
+            softly.assertThat(cart.getTotals()).isEqualTo(new OrderTotals(3000, 1000, 3, 0));
+        });
+    }
+
+    @Test
+    @DisplayName("재고를 넘는 수량은 거절하고 이전 상태를 유지한다")
+    void rejectsQuantityOverStock() {
+        cart.add("물", 4);
+
+        assertThatThrownBy(() -> cart.add("물", 7)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+        Assertions.assertThat(cart.getTotals()).isEqualTo(new OrderTotals(2000, 0, 4, 2000));
+    }
+
+    @Test
+    @DisplayName("장바구니를 주문으로 바꾸면 같은 합계의 주문이 되고 장바구니는 그대로 남는다")
+    void convertsToOrder() {
+        cart.add("콜라", 8);
+        cart.add("물", 4);
+
+        Order order = cart.toOrder();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(order.getTotals()).isEqualTo(cart.getTotals());
+            softly.assertThat(cart.isEmpty()).isFalse();
+        });
+    }
+
+    private record InMemoryRepository(List<Product> stocks) implements ProductRepository {
+        @Override
+        public List<Product> findAllByName(String productName) {
+            return stocks.stream().filter(product -> product.getName().equals(productName)).toList();
+        }
+
+        @Override
+        public Optional<Product> findLot(String productName, boolean promotionLot) {
+            return findAllByName(productName).stream()
+                    .filter(product -> product.promotionNotNull() == promotionLot)
+                    .findFirst();
+        }
+
+        @Override
+        public List<List<Product>> findAllByNames(List<String> productNames) {
+            return productNames.stream().map(this::findAllByName).toList();
+        }
+
+        @Override
+        public List<Product> getStocks() {
+            return stocks;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package store.domain;
 import camp.nextstep.edu.missionutils.DateTimes;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -102,6 +103,60 @@ class MemberShipTest {
         Assertions.assertThat(discount).isZero();
     }
 
+    @Test
+    @DisplayName("여러 스레드가 같은 한도에서 동시에 할인받아도 합계가 최대 한도를 넘지 않는다")
+    void applyDiscount_ShouldNeverExceedCapUnderContention() {
+        Product product = createNonPromotionalProduct("Item", 1000);
+        Order order = new Order(List.of(new OrderProduct(List.of(product), 1, DateTimes.now())));
+
+        int totalDiscount = IntStream.range(0, 100)
+                .parallel()
+                .map(index -> memberShip.applyDiscount(order))
+                .sum();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(totalDiscount).isEqualTo(8000);
+            softly.assertThat(memberShip.getRemainingAmount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("비회원은 할인 금액이 0원이다.")
+    void applyDiscount_ShouldReturnZeroForNonMember() {
+        Product product = createNonPromotionalProduct("Item", 10000);
+        Order order = new Order(List.of(new OrderProduct(List.of(product), 1, DateTimes.now())));
+
+        Assertions.assertThat(MemberShip.NONE.applyDiscount(order)).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 정보를 보관하지 않는 장부는 어떤 회원에게도 할인하지 않는다")
+    void noneLedger_ShouldNeverDiscount() {
+        Product product = createNonPromotionalProduct("Item", 10000);
+        Order order = new Order(List.of(new OrderProduct(List.of(product), 1, DateTimes.now())));
+
+        Assertions.assertThat(MemberShipLedger.NONE.memberShipOf("alice").applyDiscount(order)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 회원 번호로 다시 조회하면 남은 한도를 이어서 쓴다")
+    void inMemoryLedger_ShouldShareCapPerMember() {
+        InMemoryMemberShipLedger ledger = new InMemoryMemberShipLedger();
+        Product product = createNonPromotionalProduct("Item", 20000);
+        Order order = new Order(List.of(new OrderProduct(List.of(product), 1, DateTimes.now())));
+
+        int firstDiscount = ledger.memberShipOf("alice").applyDiscount(order);
+        int secondDiscount = ledger.memberShipOf("alice").applyDiscount(order);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(firstDiscount).isEqualTo(6000);
+            softly.assertThat(secondDiscount).isEqualTo(2000);
+            softly.assertThat(ledger.memberShipOf("bob").getRemainingAmount()).isEqualTo(MemberShip.ELIGIBLE_AMOUNT);
+            softly.assertThatThrownBy(() -> ledger.memberShipOf(" "))
+                    .hasMessage(DomainErrorMessage.INVALID_MEMBER_ID.getMessage());
+        });
+    }
+
     private Product createNonPromotionalProduct(String name, int price) {
         return new Product(name, price, 1, null);
     }
@@ -194,4 +194,37 @@ class OrderProductTest {
             Assertions.assertThat(promotedCount).isZero();
         }
     }
+
+    @Nested
+    @DisplayName("getPlan 메서드 테스트")
+    class PlanTests {
+        @Test
+        @DisplayName("수량이 바뀌지 않으면 같은 계획을 재사용한다")
+        void shouldReusePlanUntilQuantityChanges() {
+            OrderProduct orderProduct = createOrder(stocksOnePlusOne, 4);
+
+            Assertions.assertThat(orderProduct.getPlan()).isSameAs(orderProduct.getPlan());
+        }
+
+        @Test
+        @DisplayName("수량이 바뀌면 프로모션 수량, 일반 재고 수량, 합계를 다시 계산한다")
+        void shouldResolvePlanAgainAfterQuantityChange() {
+            OrderProduct orderProduct = createOrder(stocksOnePlusOne, 12);
+            LinePlan before = orderProduct.getPlan();
+
+            orderProduct.subtract(4);
+            LinePlan after = orderProduct.getPlan();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(before.promotedCount()).isEqualTo(5);
+                softly.assertThat(before.fallbackCount()).isEqualTo(2);
+                softly.assertThat(before.normalPrice()).isEqualTo(2000);
+                softly.assertThat(before.hasFallbackToNormal()).isTrue();
+                softly.assertThat(after.promotedCount()).isEqualTo(4);
+                softly.assertThat(after.fallbackCount()).isZero();
+                softly.assertThat(after.totalPrice()).isEqualTo(8000);
+                softly.assertThat(after.promotionDiscount()).isEqualTo(4000);
+            });
+        }
+    }
 }
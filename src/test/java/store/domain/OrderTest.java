@@ -3,8 +3,13 @@ package store.domain;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -155,6 +160,25 @@ class OrderTest {
         Assertions.assertThat(normalProductPrice).isEqualTo(4800);
     }
 
+    @Test
+    @DisplayName("주문 합계는 한 번 계산해 재사용하고 줄 수량이 바뀌면 다시 계산한다")
+    void getTotals_ShouldBeCachedUntilLineChanges() {
+        OrderProduct colaOrder = new OrderProduct(onePromoOneNormalCola, 4, orderDate); // 1+1 -> 증정 2
+        OrderProduct sodaOrder = new OrderProduct(normarSodaStock, 2, orderDate);
+        Order order = new Order(List.of(colaOrder, sodaOrder));
+
+        OrderTotals first = order.getTotals();
+        OrderTotals cached = order.getTotals();
+        sodaOrder.addQuantity();
+        OrderTotals refreshed = order.getTotals();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(cached).isSameAs(first);
+            softly.assertThat(first).isEqualTo(new OrderTotals(6400, 2000, 6, 2400));
+            softly.assertThat(refreshed).isEqualTo(new OrderTotals(7600, 2000, 7, 3600));
+        });
+    }
+
     @Test
     @DisplayName("일반 재고를 사용해야 하는 주문만 반환한다")
     void getFallBackToNormalOrders_ShouldReturnCorrectOrders() {
@@ -209,4 +233,143 @@ class OrderTest {
             });
         }
     }
+
+    @Nested
+    @DisplayName("commit 테스트")
+    class Commit {
+        @Test
+        @DisplayName("재고가 부족한 줄이 있으면 어떤 재고도 차감하지 않고 충돌한 줄을 알려준다")
+        void shouldReportConflictWithoutDecreasing() {
+            OrderProduct colaOrder = new OrderProduct(onePromoOneNormalCola, 5, orderDate);
+            OrderProduct sodaOrder = new OrderProduct(normarSodaStock, 8, orderDate);
+            Order order = new Order(List.of(colaOrder, sodaOrder));
+            normarSodaStock.getFirst().decrease(3);
+
+            CommitResult result = order.commit();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.isCommitted()).isFalse();
+                softly.assertThat(result.conflicts()).containsExactly(new LineConflict("사이다", 8, 5));
+                softly.assertThat(colaPromo.getQuantity()).isEqualTo(10);
+                softly.assertThat(normarSodaStock.getFirst().getQuantity()).isEqualTo(5);
+            });
+        }
+
+        @Test
+        @DisplayName("같은 상품을 여러 줄로 주문해 합계가 재고를 넘으면 차감한 재고를 되돌린다")
+        void shouldRollBackWhenLinesShareStock() {
+            OrderProduct firstSodaOrder = new OrderProduct(normarSodaStock, 5, orderDate);
+            OrderProduct secondSodaOrder = new OrderProduct(normarSodaStock, 5, orderDate);
+            Order order = new Order(List.of(firstSodaOrder, secondSodaOrder));
+
+            CommitResult result = order.commit();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.conflicts()).containsExactly(new LineConflict("사이다", 5, 3));
+                softly.assertThat(normarSodaStock.getFirst().getQuantity()).isEqualTo(8);
+            });
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 decreaseAmount 는 예외를 던진다")
+        void shouldThrowWhenDecreaseConflicts() {
+            Order order = new Order(List.of(new OrderProduct(normarSodaStock, 8, orderDate)));
+            normarSodaStock.getFirst().decrease(1);
+
+            assertThatThrownBy(order::decreaseAmount)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+        }
+
+        @Test
+        @DisplayName("동시에 여러 주문을 확정해도 한 주문의 줄들은 모두 차감되거나 모두 차감되지 않는다")
+        void shouldApplyAllLinesOrNoneUnderContention() throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            AtomicInteger committed = new AtomicInteger();
+
+            for (int task = 0; task < 100; task++) {
+                executor.execute(() -> {
+                    List<OrderProduct> lines = List.of(new OrderProduct(normarSodaStock, 1, orderDate),
+                            new OrderProduct(promotionPotatoChipStock, 1, orderDate));
+                    if (lines.stream().allMatch(OrderProduct::hasEnoughStock)
+                            && new Order(lines).commit().isCommitted()) {
+                        committed.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(committed.get()).isEqualTo(5);
+                softly.assertThat(normarSodaStock.getFirst().getQuantity()).isEqualTo(3);
+                softly.assertThat(promotionPotatoChipStock.getFirst().getQuantity()).isZero();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("reserve 테스트")
+    class Reserve {
+        @Test
+        @DisplayName("예약한 재고는 다른 주문에서 보이지 않지만 예약한 주문에서는 그대로 보인다")
+        void shouldHideHeldStockFromOtherOrders() {
+            OrderProduct colaOrder = new OrderProduct(onePromoOneNormalCola, 4, orderDate);
+            Order order = new Order(List.of(colaOrder));
+
+            order.reserve(Duration.ofMinutes(1));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(colaPromo.getQuantity()).isEqualTo(6);
+                softly.assertThat(colaPromo.getReservedQuantity()).isEqualTo(4);
+                softly.assertThat(colaOrder.getPromotionStock()).isEqualTo(10);
+                softly.assertThat(new OrderProduct(onePromoOneNormalCola, 1, orderDate).getPromotionStock())
+                        .isEqualTo(6);
+            });
+        }
+
+        @Test
+        @DisplayName("예약한 주문을 확정하면 예약이 실제 차감으로 바뀐다")
+        void shouldConvertHoldsOnCommit() {
+            OrderProduct colaOrder = new OrderProduct(onePromoOneNormalCola, 4, orderDate);
+            Order order = new Order(List.of(colaOrder));
+            Reservation reservation = order.reserve(Duration.ofMinutes(1));
+            colaOrder.addQuantity();
+
+            CommitResult result = order.commit();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.isCommitted()).isTrue();
+                softly.assertThat(reservation.isActive()).isFalse();
+                softly.assertThat(colaPromo.getOnHandQuantity()).isEqualTo(5);
+                softly.assertThat(colaPromo.getReservedQuantity()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("예약을 풀면 재고가 다시 보인다")
+        void shouldRestoreStockOnRelease() {
+            Order order = new Order(List.of(new OrderProduct(onePromoOneNormalCola, 14, orderDate)));
+            Reservation reservation = order.reserve(Duration.ofMinutes(1));
+
+            reservation.release();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(colaPromo.getQuantity()).isEqualTo(10);
+                softly.assertThat(cola.getQuantity()).isEqualTo(10);
+            });
+        }
+
+        @Test
+        @DisplayName("예약할 재고가 부족하면 아무것도 예약하지 않고 예외를 던진다")
+        void shouldRejectWhenStockIsTaken() {
+            Order order = new Order(List.of(new OrderProduct(normarSodaStock, 8, orderDate)));
+            normarSodaStock.getFirst().decrease(1);
+
+            assertThatThrownBy(() -> order.reserve(Duration.ofMinutes(1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(DomainErrorMessage.QUANTITY_EXCEEDED.getMessage());
+            Assertions.assertThat(normarSodaStock.getFirst().getReservedQuantity()).isZero();
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package store.domain;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+class ProductContentionBenchmark {
+    private static final int SKU_COUNT = 4;
+    private static final int STOCK_PER_SKU = 2_000_000;
+    private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors() * 4;
+
+    @Test
+    @DisplayName("많은 스레드가 적은 상품을 동시에 차감해도 판매량은 재고와 정확히 같다")
+    void decreaseUnderContention() throws InterruptedException {
+        run("atomic", createProducts());
+    }
+
+    @Test
+    @DisplayName("에스크로 슬라이스로 나눈 상품도 동시에 차감하면 판매량이 재고와 정확히 같다")
+    void decreaseEscrowUnderContention() throws InterruptedException {
+        List<Product> products = createProducts();
+        products.forEach(product -> product.useEscrow(Runtime.getRuntime().availableProcessors()));
+        run("escrow", products);
+    }
+
+    private static List<Product> createProducts() {
+        return IntStream.range(0, SKU_COUNT)
+                .mapToObj(index -> new Product("상품" + index, 1000, STOCK_PER_SKU, null))
+                .toList();
+    }
+
+    private static void run(String mode, List<Product> products) throws InterruptedException {
+        LongAdder sold = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = IntStream.range(0, THREAD_COUNT)
+                .mapToObj(index -> new Thread(() -> sellUntilSoldOut(products, sold, start)))
+                .toList();
+        threads.forEach(Thread::start);
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        System.out.printf("%s, %d threads, %d SKUs: %,d decrements in %,d ms (%,.0f ops/s)%n", mode, THREAD_COUNT,
+                SKU_COUNT, sold.sum(), elapsedNanos / 1_000_000, sold.sum() * 1e9 / elapsedNanos);
+        Assertions.assertThat(sold.sum()).isEqualTo((long) SKU_COUNT * STOCK_PER_SKU);
+        Assertions.assertThat(products).allMatch(product -> product.getQuantity() == 0);
+    }
+
+    private static void sellUntilSoldOut(List<Product> products, LongAdder sold, CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (products.stream().anyMatch(product -> product.getQuantity() > 0)) {
+            Product product = products.get(random.nextInt(SKU_COUNT));
+            int quantity = random.nextInt(1, 4);
+            sold.add(quantity - product.decrease(quantity));
+        }
+    }
+}
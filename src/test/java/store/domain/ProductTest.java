@@ -2,6 +2,12 @@ package store.domain;
 
 import camp.nextstep.edu.missionutils.DateTimes;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -131,6 +137,119 @@ class ProductTest {
             Assertions.assertThat(product.getQuantity()).isZero();
             Assertions.assertThat(remaining).isEqualTo(5);
         }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 차감해도 재고보다 많이 팔리지 않는다")
+        void shouldNotOversellUnderContention() throws InterruptedException {
+            Product product = new Product("콜라", 1000, 1_000, null);
+            AtomicInteger sold = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            for (int task = 0; task < 2_000; task++) {
+                executor.execute(() -> sold.addAndGet(1 - product.decrease(1)));
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            Assertions.assertThat(product.getQuantity()).isZero();
+            Assertions.assertThat(sold.get()).isEqualTo(1_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("reserve 메서드 테스트")
+    class ReserveTests {
+        @Test
+        @DisplayName("예약한 수량만큼 판매 가능 재고가 줄고 실제 재고는 그대로다")
+        void shouldHoldStockWithoutRemovingIt() {
+            Product product = new Product("콜라", 1000, 10, null);
+
+            int remaining = product.reserve(4);
+
+            Assertions.assertThat(remaining).isZero();
+            Assertions.assertThat(product.getQuantity()).isEqualTo(6);
+            Assertions.assertThat(product.getOnHandQuantity()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("예약된 재고는 차감할 수 없다")
+        void shouldNotDecreaseReservedStock() {
+            Product product = new Product("콜라", 1000, 10, null);
+            product.reserve(8);
+
+            int remaining = product.decrease(5);
+
+            Assertions.assertThat(remaining).isEqualTo(3);
+            Assertions.assertThat(product.getOnHandQuantity()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("예약을 풀면 판매 가능 재고가 돌아온다")
+        void shouldReturnStockOnRelease() {
+            Product product = new Product("콜라", 1000, 10, null);
+            product.reserve(4);
+
+            product.release(4);
+
+            Assertions.assertThat(product.getQuantity()).isEqualTo(10);
+            Assertions.assertThat(product.getReservedQuantity()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("useEscrow 메서드 테스트")
+    class EscrowTests {
+        @Test
+        @DisplayName("재고를 슬라이스로 나눠도 전체 수량은 그대로다")
+        void shouldKeepTotalAfterSplitting() {
+            Product product = new Product("콜라", 1000, 10, null);
+            product.reserve(3);
+
+            product.useEscrow(4);
+
+            Assertions.assertThat(product.getQuantity()).isEqualTo(7);
+            Assertions.assertThat(product.getReservedQuantity()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("한 슬라이스가 비면 다른 슬라이스에서 빌려 차감한다")
+        void shouldBorrowFromSiblings() {
+            Product product = new Product("콜라", 1000, 10, null);
+            product.useEscrow(4);
+
+            int remaining = product.decrease(9);
+
+            Assertions.assertThat(remaining).isZero();
+            Assertions.assertThat(product.getQuantity()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 차감해도 재고보다 많이 팔리지 않는다")
+        void shouldNotOversellUnderContention() throws InterruptedException {
+            Product product = new Product("콜라", 1000, 1_000, null);
+            product.useEscrow(8);
+            AtomicInteger sold = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            for (int task = 0; task < 2_000; task++) {
+                executor.execute(() -> sold.addAndGet(1 - product.decrease(1)));
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            Assertions.assertThat(product.getQuantity()).isZero();
+            Assertions.assertThat(sold.get()).isEqualTo(1_000);
+        }
+
+        @Test
+        @DisplayName("슬라이스 개수가 1보다 작으면 예외가 발생한다")
+        void shouldRejectInvalidSliceCount() {
+            Product product = new Product("콜라", 1000, 10, null);
+
+            Assertions.assertThatThrownBy(() -> product.useEscrow(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(DomainErrorMessage.INVALID_SLICE_COUNT.getMessage());
+        }
     }
 
     @Nested
@@ -156,4 +275,42 @@ class ProductTest {
             Assertions.assertThat(promotedCount).isEqualTo(1);
         }
     }
+
+    @Nested
+    @DisplayName("재고 변경 알림 테스트")
+    class StockListenerTests {
+        @Test
+        @DisplayName("등록한 모든 리스너에 알리고 뗀 리스너에는 알리지 않는다")
+        void notifiesEveryRegisteredListener() {
+            Product product = new Product("물", 500, 10, null);
+            List<Integer> first = new ArrayList<>();
+            List<Integer> second = new ArrayList<>();
+            StockListener secondListener = (changed, previousQuantity) -> second.add(previousQuantity);
+            product.addStockListener((changed, previousQuantity) -> first.add(previousQuantity));
+            product.addStockListener(secondListener);
+
+            product.decrease(3);
+            product.removeStockListener(secondListener);
+            product.decrease(2);
+
+            Assertions.assertThat(first).containsExactly(10, 7);
+            Assertions.assertThat(second).containsExactly(10);
+        }
+
+        @Test
+        @DisplayName("다시 등록된 상품의 이전 인스턴스로 들어온 차감은 새 인스턴스의 리스너로만 알린다")
+        void forwardsChangesOfRelistedProduct() {
+            Product product = new Product("물", 500, 10, null);
+            List<Product> previousListener = new ArrayList<>();
+            List<Product> relistedListener = new ArrayList<>();
+            product.addStockListener((changed, previousQuantity) -> previousListener.add(changed));
+            Product relisted = product.relist(600, null);
+            relisted.addStockListener((changed, previousQuantity) -> relistedListener.add(changed));
+
+            product.decrease(1);
+
+            Assertions.assertThat(previousListener).isEmpty();
+            Assertions.assertThat(relistedListener).containsExactly(relisted);
+        }
+    }
 }
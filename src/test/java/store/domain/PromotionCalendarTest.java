@@ -0,0 +1,56 @@
+package store.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PromotionCalendarTest {
+    private final Promotion soda = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private final Promotion flash = new Promotion("반짝할인", 1, 1, LocalDate.of(2024, 11, 1).atStartOfDay(),
+            LocalDate.of(2024, 11, 30).atStartOfDay());
+    private final PromotionCalendar calendar = new PromotionCalendar(List.of(soda, flash));
+
+    @Test
+    @DisplayName("날짜마다 그날 진행 중인 프로모션만 활성으로 표시한다")
+    void marksPromotionsActiveOnTheDay() {
+        PromotionDay october = calendar.dayOf(LocalDate.of(2024, 10, 31).atTime(23, 59));
+        PromotionDay november = calendar.dayOf(LocalDate.of(2024, 11, 30).atTime(18, 0));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(october.isActive(soda)).isTrue();
+            softly.assertThat(october.isActive(flash)).isFalse();
+            softly.assertThat(november.isActive(soda)).isTrue();
+            softly.assertThat(november.isActive(flash)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 날의 주문은 같은 스냅샷을 공유하고 자정이 지나면 새 스냅샷으로 넘어간다")
+    void sharesSnapshotWithinDayAndRollsOverAtMidnight() {
+        PromotionDay morning = calendar.dayOf(LocalDate.of(2024, 11, 30).atTime(9, 0));
+        PromotionDay evening = calendar.dayOf(LocalDate.of(2024, 11, 30).atTime(23, 59, 59));
+        PromotionDay nextDay = calendar.dayOf(LocalDate.of(2024, 12, 1).atStartOfDay());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(evening).isSameAs(morning);
+            softly.assertThat(nextDay.epochDay()).isEqualTo(morning.epochDay() + 1);
+            softly.assertThat(nextDay.isActive(flash)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("달력에 없는 프로모션은 기간을 직접 비교해 판단한다")
+    void fallsBackToDateRangeForUnknownPromotion() {
+        Promotion reloaded = new Promotion("반짝할인", 1, 1, LocalDate.of(2024, 12, 1).atStartOfDay(),
+                LocalDate.of(2024, 12, 31).atStartOfDay());
+        PromotionDay december = calendar.dayOf(LocalDate.of(2024, 12, 15).atStartOfDay());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(december.isActive(reloaded)).isTrue();
+            softly.assertThat(december.isActive(flash)).isFalse();
+        });
+    }
+}
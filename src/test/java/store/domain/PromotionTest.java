@@ -3,6 +3,7 @@ package store.domain;
 import java.time.LocalDate;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -55,4 +56,15 @@ class PromotionTest {
 
         Assertions.assertThat(result).isEqualTo(expected);
     }
+
+    @Test
+    @DisplayName("종료일 당일은 자정 이후에도 프로모션이 적용된다")
+    void testApplicableThroughoutEndDate() {
+        Promotion promotion = new Promotion("foo", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+                LocalDate.of(2024, 12, 31).atStartOfDay());
+
+        boolean result = promotion.applicable(LocalDate.of(2024, 12, 31).atTime(18, 30));
+
+        Assertions.assertThat(result).isTrue();
+    }
 }
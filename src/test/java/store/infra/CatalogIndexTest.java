@@ -0,0 +1,69 @@
+package store.infra;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class CatalogIndexTest {
+    private final Promotion soda = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private Product colaPromo;
+    private Product cider;
+    private Product water;
+    private Product lunchBox;
+    private ProductCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        colaPromo = new Product("콜라", 1000, 10, soda);
+        cider = new Product("사이다", 1000, 2, soda);
+        water = new Product("물", 500, 0, null);
+        lunchBox = new Product("정식도시락", 6400, 8, null);
+        catalog = ProductCatalog.of(List.of(colaPromo, cider, water, lunchBox));
+    }
+
+    @Test
+    @DisplayName("프로모션 이름으로 상품을 조회한다")
+    void shouldFindAllByPromotion() {
+        CatalogIndex index = catalog.getIndex();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(index.findAllByPromotion("탄산2+1")).containsExactly(colaPromo, cider);
+            softly.assertThat(index.findAllByPromotion("MD추천상품")).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("가격 범위로 상품을 조회한다")
+    void shouldFindAllByPriceBetween() {
+        CatalogIndex index = catalog.getIndex();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(index.findAllByPriceBetween(500, 1000)).containsExactly(water, colaPromo, cider);
+            softly.assertThat(index.findAllByPriceBetween(1001, 6400)).containsExactly(lunchBox);
+            softly.assertThat(index.findAllByPriceBetween(2000, 1000)).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("재고가 차감되면 품절, 재고 부족 목록이 갱신된다")
+    void shouldUpdateStockStatusWhenDecreased() {
+        CatalogIndex index = catalog.getIndex();
+        Assertions.assertThat(index.findOutOfStock()).containsExactly(water);
+        Assertions.assertThat(index.findLowStock()).containsExactly(cider);
+
+        cider.decrease(2);
+        colaPromo.decrease(8);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(index.findOutOfStock()).containsExactlyInAnyOrder(water, cider);
+            softly.assertThat(index.findLowStock()).containsExactly(colaPromo);
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package store.infra;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class CatalogReloaderTest {
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private final List<Product> fileProducts = new ArrayList<>();
+    private FilerLoaderProductRepository repository;
+    private CatalogReloader reloader;
+
+    @BeforeEach
+    void setUp() {
+        fileProducts.addAll(List.of(
+                new Product("콜라", 1000, 10, promotion),
+                new Product("콜라", 1000, 10, null),
+                new Product("물", 500, 10, null)
+        ));
+        repository = new FilerLoaderProductRepository(List.copyOf(fileProducts));
+        reloader = new CatalogReloader(repository, () -> List.copyOf(fileProducts), List.of(Path.of("products.md")));
+    }
+
+    @Test
+    @DisplayName("변경이 없는 행은 기존 상품 객체와 판매된 재고를 그대로 유지한다")
+    void shouldKeepUnchangedLots() {
+        Product liveCola = repository.findAllByName("콜라").getLast();
+        liveCola.decrease(4);
+        replaceFileProducts(new Product("콜라", 1000, 10, promotion), new Product("콜라", 1000, 10, null),
+                new Product("물", 500, 10, null));
+
+        ReloadSummary summary = reloader.reload();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summary.hasChanges()).isFalse();
+            softly.assertThat(repository.findAllByName("콜라").getLast()).isSameAs(liveCola);
+            softly.assertThat(liveCola.getQuantity()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    @DisplayName("가격 변경, 입고, 신규 상품, 삭제된 상품을 판매 수량을 보존하며 반영한다")
+    void shouldApplyDeltasPreservingSoldQuantities() {
+        repository.findAllByName("물").getFirst().decrease(3);
+        repository.findAllByName("콜라").getLast().decrease(2);
+        replaceFileProducts(new Product("콜라", 1000, 15, null), new Product("물", 700, 10, null),
+                new Product("삼각김밥", 1200, 4, null));
+
+        ReloadSummary summary = reloader.reload();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summary).isEqualTo(new ReloadSummary(1, 1, 1, 1));
+            softly.assertThat(repository.findAllByName("콜라")).extracting(Product::toString)
+                    .containsExactly("- 콜라 1,000원 13개");
+            softly.assertThat(repository.findAllByName("물")).extracting(Product::toString)
+                    .containsExactly("- 물 700원 7개");
+            softly.assertThat(repository.findAllByName("삼각김밥")).hasSize(1);
+        });
+    }
+
+    @Test
+    @DisplayName("복구로 줄어든 재고는 입고로 보지 않고, 기동할 때 읽은 수량과 파일의 차이만 입고로 반영한다")
+    void shouldTakeBaselineFromLoadedQuantities() {
+        Product liveWater = new Product("물", 500, 10, null);
+        FilerLoaderProductRepository recovered = new FilerLoaderProductRepository(List.of(liveWater));
+        liveWater.decrease(4);
+        CatalogReloader recoveredReloader = new CatalogReloader(recovered,
+                () -> List.of(new Product("물", 500, 12, null)), List.of(Path.of("products.md")));
+
+        ReloadSummary summary = recoveredReloader.reload();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summary.restocked()).isEqualTo(1);
+            softly.assertThat(liveWater.getQuantity()).isEqualTo(8);
+        });
+    }
+
+    @Test
+    @DisplayName("다시 읽기 전까지는 상품 파일을 읽지 않는다")
+    void shouldNotReadSourceUntilReload() {
+        AtomicInteger reads = new AtomicInteger();
+
+        CatalogReloader lazyReloader = new CatalogReloader(repository, () -> {
+            reads.incrementAndGet();
+            return List.copyOf(fileProducts);
+        }, List.of(Path.of("products.md")));
+        int readsBeforeReload = reads.get();
+        lazyReloader.reload();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(readsBeforeReload).isZero();
+            softly.assertThat(reads.get()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("가격이 바뀐 묶음은 재고를 공유하므로 이전 인스턴스로 판매해도 새 묶음의 재고가 줄어든다")
+    void shouldShareStockWithReplacedLot() {
+        Product liveWater = repository.findAllByName("물").getFirst();
+        replaceFileProducts(new Product("콜라", 1000, 10, promotion), new Product("콜라", 1000, 10, null),
+                new Product("물", 700, 10, null));
+
+        reloader.reload();
+        int remaining = liveWater.decrease(10);
+        Product relisted = repository.findAllByName("물").getFirst();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(remaining).isZero();
+            softly.assertThat(relisted).isNotSameAs(liveWater);
+            softly.assertThat(relisted.getQuantity()).isZero();
+            softly.assertThat(relisted.decrease(1)).isEqualTo(1);
+        });
+    }
+
+    private void replaceFileProducts(Product... products) {
+        fileProducts.clear();
+        fileProducts.addAll(List.of(products));
+    }
+}
@@ -0,0 +1,80 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class CatalogSnapshotTest {
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private final List<Product> products = List.of(
+            new Product("콜라", 1000, 10, promotion),
+            new Product("콜라", 1000, 0, null),
+            new Product("물", 500, 10, null)
+    );
+
+    @TempDir
+    private Path directory;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new CatalogSnapshot(directory.resolve("catalog.snapshot"));
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷을 읽으면 같은 상품과 프로모션을 복원한다")
+    void shouldRestoreWrittenProducts() {
+        snapshot.write(products);
+
+        List<Product> restored = snapshot.read().orElseThrow();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(restored).extracting(Product::toString)
+                    .containsExactlyElementsOf(products.stream().map(Product::toString).toList());
+            softly.assertThat(restored.getFirst().getPromotion()).isEqualTo(promotion);
+            softly.assertThat(restored.get(1).promotionNotNull()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("원본 파일이 스냅샷보다 새로우면 스냅샷을 사용하지 않는다")
+    void shouldIgnoreSnapshotOlderThanSources() throws IOException {
+        Path source = Files.writeString(directory.resolve("products.md"), "name,price,quantity,promotion");
+        snapshot.write(products);
+        Files.setLastModifiedTime(source, FileTime.from(Instant.now().plusSeconds(60)));
+
+        Assertions.assertThat(snapshot.readIfNewerThan(List.of(source))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 원본 파일보다 새로우면 스냅샷을 읽는다")
+    void shouldReadSnapshotNewerThanSources() throws IOException {
+        Path source = Files.writeString(directory.resolve("products.md"), "name,price,quantity,promotion");
+        Files.setLastModifiedTime(source, FileTime.from(Instant.now().minusSeconds(60)));
+        snapshot.write(products);
+
+        Assertions.assertThat(snapshot.readIfNewerThan(List.of(source))).hasValueSatisfying(
+                restored -> Assertions.assertThat(restored).hasSize(products.size()));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 스냅샷은 읽지 않는다")
+    void shouldIgnoreCorruptedSnapshot() throws IOException {
+        Files.writeString(directory.resolve("catalog.snapshot"), "not a snapshot");
+
+        Assertions.assertThat(snapshot.read()).isEmpty();
+    }
+}
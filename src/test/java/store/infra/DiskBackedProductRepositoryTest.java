@@ -0,0 +1,182 @@
+package store.infra;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class DiskBackedProductRepositoryTest {
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private final PromotionFactory promotionFactory = new PromotionFactory(List.of(promotion));
+
+    @TempDir
+    private Path directory;
+    private Path catalogPath;
+
+    @BeforeEach
+    void setUp() {
+        catalogPath = directory.resolve("catalog.dat");
+        SortedCatalogFile.write(catalogPath, List.of(
+                new Product("콜라", 1000, 10, promotion),
+                new Product("콜라", 1000, 10, null),
+                new Product("물", 500, 10, null),
+                new Product("사이다", 1000, 8, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("디스크에서 이름으로 상품의 재고 묶음을 찾는다")
+    void shouldFindLotsFromDisk() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            Assertions.assertThat(repository.findAllByName("콜라")).extracting(Product::toString)
+                    .containsExactly("- 콜라 1,000원 10개 탄산2+1", "- 콜라 1,000원 10개");
+        }
+    }
+
+    @Test
+    @DisplayName("없는 상품 이름은 블룸 필터에서 걸러지고 빈 목록을 돌려준다")
+    void shouldRejectUnknownNameWithBloomFilter() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            Assertions.assertThat(repository.findAllByName("없는상품")).isEmpty();
+            Assertions.assertThat(repository.getCacheStats().bloomRejections()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 가장 오래 쓰지 않은 상품을 내보낸다")
+    void shouldEvictLeastRecentlyUsed() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory), 2)) {
+            repository.findAllByName("콜라");
+            repository.findAllByName("물");
+            repository.findAllByName("콜라");
+            repository.findAllByName("사이다");
+            repository.findAllByName("콜라");
+            repository.findAllByName("물");
+
+            Assertions.assertThat(repository.getCacheStats()).isEqualTo(new CacheStats(2, 4, 2, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("재고가 바뀌면 파일의 수량도 바로 바뀐다")
+    void shouldWriteQuantityThrough() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            repository.findLot("콜라", true).orElseThrow().decrease(3);
+        }
+
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(repository.findLot("콜라", true).orElseThrow().getQuantity()).isEqualTo(7);
+                softly.assertThat(repository.getStocks()).hasSize(4);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("캐시에서 밀려난 상품을 다시 찾아도 아직 쥐고 있는 인스턴스를 돌려주어 초과 판매하지 않는다")
+    void shouldKeepOneLiveInstancePerLotAfterEviction() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory), 1)) {
+            Product held = repository.findLot("물", false).orElseThrow();
+            repository.findAllByName("사이다");
+            Product refetched = repository.findLot("물", false).orElseThrow();
+
+            int firstRemaining = held.decrease(10);
+            int secondRemaining = refetched.decrease(10);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(refetched).isSameAs(held);
+                softly.assertThat(firstRemaining).isZero();
+                softly.assertThat(secondRemaining).isEqualTo(10);
+                softly.assertThat(repository.getCacheStats().evictions()).isEqualTo(2);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("전체 재고 목록의 상품도 같은 인스턴스이며 바뀐 수량이 파일에 기록된다")
+    void shouldStreamLiveLotsThatWriteThrough() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            Product water = repository.findLot("물", false).orElseThrow();
+            Product streamed = repository.streamStocks()
+                    .filter(product -> product.getName().equals("사이다"))
+                    .findFirst()
+                    .orElseThrow();
+
+            streamed.decrease(2);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(repository.getStocks()).contains(water);
+                softly.assertThat(repository.streamStocks()).hasSize(4);
+            });
+        }
+
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            Assertions.assertThat(repository.findLot("사이다", false).orElseThrow().getQuantity()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    @DisplayName("처음 찾는 상품을 여러 스레드가 동시에 찾아도 같은 재고 묶음 인스턴스를 받는다")
+    void shouldShareLotsLoadedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            List<Callable<Product>> lookups = IntStream.range(0, 32)
+                    .mapToObj(index -> (Callable<Product>) () -> repository.findLot("물", false).orElseThrow())
+                    .toList();
+            List<Product> found = new ArrayList<>();
+            for (Future<Product> lookup : executor.invokeAll(lookups)) {
+                found.add(lookup.get());
+            }
+
+            Assertions.assertThat(found).allSatisfy(product -> Assertions.assertThat(product).isSameAs(found.get(0)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("프로모션 목록은 상품을 읽지 않고 카탈로그 파일에서 가져온다")
+    void shouldListPromotionsWithoutLoadingLots() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(repository.getPromotions()).containsExactly(promotion);
+                softly.assertThat(repository.getCacheStats().misses()).isZero();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("주문한 상품이 없으면 예외가 발생한다")
+    void shouldThrowWhenOrderedProductMissing() {
+        try (DiskBackedProductRepository repository = new DiskBackedProductRepository(
+                SortedCatalogFile.open(catalogPath, promotionFactory))) {
+            Assertions.assertThatThrownBy(() -> repository.findAllByNames(List.of("물", "없는상품")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(InfraErrorMessage.PRODUCT_NOT_FOUND.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.MemberShip;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+
+class FileMemberShipLedgerTest {
+    @TempDir
+    private Path directory;
+
+    private Order orderOf(int price) {
+        Product product = new Product("물", price, 1, null);
+        return new Order(List.of(new OrderProduct(List.of(product), 1, LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("회원마다 한도를 따로 관리하고 같은 회원은 한도를 공유한다")
+    void shouldKeepCapPerMember() {
+        try (FileMemberShipLedger ledger = new FileMemberShipLedger(directory)) {
+            int first = ledger.memberShipOf("member-1").applyDiscount(orderOf(20_000));
+            int second = ledger.memberShipOf("member-1").applyDiscount(orderOf(20_000));
+            int other = ledger.memberShipOf("member-2").applyDiscount(orderOf(20_000));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first).isEqualTo(6000);
+                softly.assertThat(second).isEqualTo(2000);
+                softly.assertThat(other).isEqualTo(6000);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("처음 조회된 회원의 버킷만 불러온다")
+    void shouldLoadBucketLazily() {
+        try (FileMemberShipLedger ledger = new FileMemberShipLedger(directory)) {
+            long beforeAccess = ledger.loadedBucketCount();
+            ledger.memberShipOf("member-1");
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(beforeAccess).isZero();
+                softly.assertThat(ledger.loadedBucketCount()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("닫을 때 남은 한도를 저장하고 다시 열면 이어서 사용한다")
+    void shouldPersistRemainingCap() {
+        try (FileMemberShipLedger ledger = new FileMemberShipLedger(directory)) {
+            ledger.memberShipOf("member-1").applyDiscount(orderOf(10_000));
+        }
+
+        try (FileMemberShipLedger reopened = new FileMemberShipLedger(directory)) {
+            MemberShip memberShip = reopened.memberShipOf("member-1");
+
+            Assertions.assertThat(memberShip.getRemainingAmount()).isEqualTo(5000);
+        }
+    }
+
+    @Test
+    @DisplayName("비어 있거나 구분자가 포함된 회원 번호는 예외가 발생한다")
+    void shouldRejectInvalidMemberId() {
+        try (FileMemberShipLedger ledger = new FileMemberShipLedger(directory)) {
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThatThrownBy(() -> ledger.memberShipOf(" "))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage(InfraErrorMessage.INVALID_MEMBER_ID.getMessage());
+                softly.assertThatThrownBy(() -> ledger.memberShipOf("a,b"))
+                        .isInstanceOf(IllegalArgumentException.class);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("한 버킷 저장에 실패해도 나머지 버킷은 저장하고 주기 저장은 멈추지 않는다")
+    void shouldKeepFlushingOtherBucketsAfterFailure() throws IOException, InterruptedException {
+        Path blocked = directory.resolve(bucketFileOf("member-1") + ".tmp");
+        Files.createDirectories(blocked);
+        CountDownLatch failures = new CountDownLatch(2);
+        try (FileMemberShipLedger ledger = new FileMemberShipLedger(directory)) {
+            ledger.memberShipOf("member-1").applyDiscount(orderOf(10_000));
+            ledger.memberShipOf("member-2").applyDiscount(orderOf(10_000));
+
+            Throwable flushFailure = Assertions.catchThrowable(ledger::flush);
+            ledger.startFlushing(Duration.ofMillis(10), message -> failures.countDown());
+            boolean retried = failures.await(5, TimeUnit.SECONDS);
+            Files.delete(blocked);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(flushFailure).isInstanceOf(IllegalStateException.class)
+                        .hasMessage(InfraErrorMessage.FILE_WRITE_FAILED.getMessage());
+                softly.assertThat(directory.resolve(bucketFileOf("member-2"))).exists();
+                softly.assertThat(retried).isTrue();
+            });
+        }
+    }
+
+    private static String bucketFileOf(String memberId) {
+        return String.format("members-%03d.csv", Math.floorMod(memberId.hashCode(), 256));
+    }
+}
@@ -0,0 +1,151 @@
+package store.infra;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class InventoryFileTest {
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private final PromotionFactory promotionFactory = new PromotionFactory(List.of(promotion));
+
+    @TempDir
+    private Path directory;
+
+    private Path createInventory() {
+        Path path = directory.resolve("inventory.dat");
+        InventoryFile.create(path, List.of(
+                new Product("콜라", 1000, 10, promotion),
+                new Product("콜라", 1000, 10, null),
+                new Product("물", 500, 10, null)
+        ), InventoryWriteMode.WRITE_THROUGH).close();
+        return path;
+    }
+
+    private List<String> reopen(Path path) {
+        try (InventoryFile inventoryFile = InventoryFile.open(path, InventoryWriteMode.WRITE_THROUGH)) {
+            return inventoryFile.readProducts(promotionFactory).stream().map(Product::toString).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 즉시 반영 모드에서는 재고가 바뀌는 즉시 파일의 수량이 바뀐다")
+    void shouldWriteQuantityThrough() {
+        Path path = createInventory();
+        try (FilerLoaderProductRepository repository = FilerLoaderProductRepository.backedBy(
+                InventoryFile.open(path, InventoryWriteMode.WRITE_THROUGH), promotionFactory)) {
+            repository.findLot("콜라", true).orElseThrow().decrease(3);
+
+            Assertions.assertThat(reopen(path)).contains("- 콜라 1,000원 7개 탄산2+1");
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 묶음을 바꿔도 파일에는 마지막 수량이 남는다")
+    void shouldKeepLatestQuantityUnderConcurrentChanges() throws InterruptedException {
+        Path path = createInventory();
+        try (FilerLoaderProductRepository repository = FilerLoaderProductRepository.backedBy(
+                InventoryFile.open(path, InventoryWriteMode.WRITE_THROUGH), promotionFactory)) {
+            Product water = repository.findLot("물", false).orElseThrow();
+            List<Thread> workers = IntStream.range(0, 8)
+                    .mapToObj(index -> Thread.ofPlatform().start(() -> {
+                        for (int round = 0; round < 500; round++) {
+                            water.decrease(1);
+                            water.adjustQuantity(1);
+                        }
+                        water.decrease(1);
+                    }))
+                    .toList();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            Assertions.assertThat(reopen(path)).contains("- 물 500원 2개");
+        }
+    }
+
+    @Test
+    @DisplayName("나중에 반영 모드에서는 flush 전까지 파일의 수량이 바뀌지 않는다")
+    void shouldWriteQuantityBackOnFlush() {
+        Path path = createInventory();
+        InventoryFile inventoryFile = InventoryFile.open(path, InventoryWriteMode.WRITE_BACK);
+        try (FilerLoaderProductRepository repository = FilerLoaderProductRepository.backedBy(inventoryFile,
+                promotionFactory)) {
+            repository.findLot("물", false).orElseThrow().decrease(4);
+            List<String> beforeFlush = reopen(path);
+            inventoryFile.flush();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(beforeFlush).contains("- 물 500원 10개");
+                softly.assertThat(reopen(path)).contains("- 물 500원 6개");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("나중에 반영 모드의 변경은 주기 저장이나 저장소를 닫을 때 파일에 쓰인다")
+    void shouldFlushWriteBackPeriodicallyAndOnClose() throws InterruptedException {
+        Path path = createInventory();
+        InventoryFile inventoryFile = InventoryFile.open(path, InventoryWriteMode.WRITE_BACK);
+        try (FilerLoaderProductRepository repository = FilerLoaderProductRepository.backedBy(inventoryFile,
+                promotionFactory)) {
+            inventoryFile.startFlushing(Duration.ofMillis(10), message -> {
+            });
+            repository.findLot("물", false).orElseThrow().decrease(4);
+            for (int tries = 0; tries < 500 && !reopen(path).contains("- 물 500원 6개"); tries++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertThat(reopen(path)).contains("- 물 500원 6개");
+
+            repository.findLot("콜라", false).orElseThrow().decrease(1);
+        }
+
+        Assertions.assertThat(reopen(path)).contains("- 콜라 1,000원 9개");
+    }
+
+    @Test
+    @DisplayName("파일에 없던 상품의 재고가 바뀌면 새 레코드를 추가한다")
+    void shouldAppendUnknownProduct() {
+        Path path = createInventory();
+        Product juice = new Product("주스", 1500, 5, null);
+        try (InventoryFile inventoryFile = InventoryFile.open(path, InventoryWriteMode.WRITE_THROUGH)) {
+            inventoryFile.onStockChanged(juice, 5);
+        }
+
+        Assertions.assertThat(reopen(path)).containsExactly("- 콜라 1,000원 10개 탄산2+1", "- 콜라 1,000원 10개",
+                "- 물 500원 10개", "- 주스 1,500원 5개");
+    }
+
+    @Test
+    @DisplayName("재고 파일을 상품 마크다운으로 바꿨다가 다시 읽으면 같은 재고가 된다")
+    void shouldConvertToMarkdownAndBack() throws Exception {
+        Path inventoryPath = createInventory();
+        Path markdownPath = directory.resolve("products.md");
+
+        InventoryFileConverter.toMarkdown(inventoryPath, promotionFactory, markdownPath);
+
+        Assertions.assertThat(Files.readAllLines(markdownPath)).containsExactly("name,price,quantity,promotion",
+                "콜라,1000,10,탄산2+1", "콜라,1000,10,null", "물,500,10,null");
+    }
+
+    @Test
+    @DisplayName("이름이 레코드 폭보다 길면 예외가 발생한다")
+    void shouldRejectTooLongName() {
+        Product product = new Product("가".repeat(30), 1000, 1, null);
+
+        Assertions.assertThatThrownBy(() -> InventoryFile.create(directory.resolve("inventory.dat"),
+                        List.of(product), InventoryWriteMode.WRITE_THROUGH))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(InfraErrorMessage.INVALID_PRODUCT_NAME.getMessage());
+    }
+}
@@ -0,0 +1,256 @@
+package store.infra;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+import store.domain.ProductRepository;
+import store.domain.StockListener;
+
+class InventoryVersionsTest {
+    private Product water;
+    private Product cola;
+    private FilerLoaderProductRepository repository;
+    private InventoryVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        water = new Product("물", 500, 10, null);
+        cola = new Product("콜라", 1000, 5, null);
+        repository = new FilerLoaderProductRepository(List.of(water, cola));
+        versions = new InventoryVersions(repository);
+    }
+
+    private void commit(Product product, int quantity) {
+        Order order = new Order(List.of(new OrderProduct(List.of(product), quantity, LocalDateTime.now())));
+        versions.record(order::decreaseAmount);
+    }
+
+    @Test
+    @DisplayName("고정한 버전은 이후 커밋의 영향을 받지 않고 새로 고정한 버전은 커밋을 반영한다")
+    void pinnedVersionStaysConsistent() {
+        InventoryVersion pinned = versions.pin();
+
+        commit(water, 3);
+        InventoryVersion latest = versions.pin();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(pinned.quantityOf(water)).isEqualTo(10);
+            softly.assertThat(latest.quantityOf(water)).isEqualTo(7);
+            softly.assertThat(latest.getVersion()).isEqualTo(pinned.getVersion() + 1);
+        });
+    }
+
+    @Test
+    @DisplayName("상품 구성이 그대로면 고정할 때마다 저장소의 전체 목록을 다시 읽지 않는다")
+    void pinDoesNotRescanUnchangedCatalog() {
+        AtomicInteger scans = new AtomicInteger();
+        InventoryVersions counted = new InventoryVersions(new CountingRepository(repository, scans));
+        int scansAfterStart = scans.get();
+
+        commit(water, 1);
+        counted.pin();
+        counted.pin();
+        repository.replaceStocks(List.of(water, cola, new Product("사이다", 1000, 3, null)));
+        InventoryVersion relaid = counted.pin();
+        counted.pin();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(scans.get()).isEqualTo(scansAfterStart + 1);
+            softly.assertThat(relaid.getStocks()).hasSize(3);
+        });
+    }
+
+    @Test
+    @DisplayName("버전에서 꺼낸 상품은 복사본이라 수정해도 실제 재고가 바뀌지 않는다")
+    void pinnedProductsAreDetached() {
+        Product copy = versions.pin().findAllByName("물").get(0);
+
+        copy.decrease(4);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(water.getQuantity()).isEqualTo(10);
+            softly.assertThat(versions.pin().quantityOf(water)).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("목록 출력은 저장소 출력과 같은 형식이다")
+    void listingMatchesRepository() {
+        Assertions.assertThat(versions.pin().toString()).isEqualTo(repository.toString());
+    }
+
+    @Test
+    @DisplayName("새 버전은 바뀐 청크만 복사하고 나머지는 이전 버전과 공유한다")
+    void copiesOnlyTouchedChunk() {
+        List<Product> lots = IntStream.range(0, InventoryVersion.CHUNK_SIZE * 2)
+                .mapToObj(index -> new Product("상품" + index, 100, 10, null))
+                .toList();
+        InventoryVersions chunked = new InventoryVersions(new FilerLoaderProductRepository(lots));
+        InventoryVersion before = chunked.pin();
+
+        Order order = new Order(List.of(new OrderProduct(List.of(lots.get(0)), 1, LocalDateTime.now())));
+        chunked.record(order::decreaseAmount);
+        InventoryVersion after = chunked.pin();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(after.sharesChunk(before, 0)).isFalse();
+            softly.assertThat(after.sharesChunk(before, 1)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("카탈로그가 다시 로드되면 새 상품 목록으로 버전을 다시 만든다")
+    void rebuildsAfterCatalogReload() {
+        InventoryVersion before = versions.pin();
+        Product reloadedWater = new Product("물", 500, 20, null);
+
+        repository.replaceStocks(List.of(reloadedWater));
+        InventoryVersion after = versions.pin();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(after.quantityOf(reloadedWater)).isEqualTo(20);
+            softly.assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+            softly.assertThat(before.quantityOf(water)).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("저널을 거치지 않은 입고도 새 버전으로 공개되어 목록에 바로 보인다")
+    void publishesRestockOutsideJournal() {
+        InventoryVersion before = versions.pin();
+
+        water.adjustQuantity(10);
+        InventoryVersion after = versions.pin();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(after.quantityOf(water)).isEqualTo(20);
+            softly.assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+            softly.assertThat(versions.renderListing()).contains("- 물 500원 20개");
+        });
+    }
+
+    @Test
+    @DisplayName("다른 손님이 예약한 수량은 버전에서 판매 가능한 재고로 보이지 않는다")
+    void excludesReservedQuantity() {
+        water.reserve(4);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(versions.pin().quantityOf(water)).isEqualTo(6);
+            softly.assertThat(versions.pin().findAllByName("물").get(0).getQuantity()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    @DisplayName("주문과 예약이 동시에 반영되어도 고정한 버전은 언제나 주문이 통째로 반영되거나 빠진 상태다")
+    void pinnedVersionsAreConsistentCuts() throws Exception {
+        Product left = new Product("왼쪽", 100, 2_000, null);
+        Product right = new Product("오른쪽", 100, 2_000, null);
+        InventoryVersions pairVersions = new InventoryVersions(new FilerLoaderProductRepository(List.of(left, right)));
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        AtomicBoolean committing = new AtomicBoolean(true);
+        AtomicInteger tornVersions = new AtomicInteger();
+
+        List<? extends Future<?>> committers = IntStream.range(0, 4)
+                .mapToObj(thread -> executor.submit(() -> commitPairs(pairVersions, left, right, 500)))
+                .toList();
+        executor.submit(() -> {
+            while (committing.get()) {
+                reserveAndRelease(left, right);
+            }
+        });
+        Future<?> reader = executor.submit(() -> {
+            while (committing.get()) {
+                InventoryVersion pinned = pairVersions.pin();
+                if (pinned.quantityOf(left) != pinned.quantityOf(right)) {
+                    tornVersions.incrementAndGet();
+                }
+            }
+        });
+        for (Future<?> committer : committers) {
+            committer.get();
+        }
+        committing.set(false);
+        reader.get();
+        executor.shutdown();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tornVersions.get()).isZero();
+            softly.assertThat(pairVersions.pin().quantityOf(left)).isZero();
+            softly.assertThat(pairVersions.pin().quantityOf(right)).isZero();
+        });
+    }
+
+    private static Order pairOrder(Product left, Product right) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Order(List.of(new OrderProduct(List.of(left), 1, now), new OrderProduct(List.of(right), 1, now)));
+    }
+
+    private static void commitPairs(InventoryVersions pairVersions, Product left, Product right, int count) {
+        int committed = 0;
+        while (committed < count) {
+            try {
+                pairVersions.record(pairOrder(left, right)::decreaseAmount);
+                committed++;
+            } catch (IllegalArgumentException e) {
+                // 다른 스레드의 예약과 겹쳐 재고가 모자랐으므로 다시 시도한다
+            }
+        }
+    }
+
+    private static void reserveAndRelease(Product left, Product right) {
+        try {
+            pairOrder(left, right).reserve(Duration.ofMinutes(1)).release();
+        } catch (IllegalArgumentException e) {
+            // 남은 재고보다 많이 예약하려 했다
+        }
+    }
+
+    private record CountingRepository(FilerLoaderProductRepository delegate, AtomicInteger scans)
+            implements ProductRepository {
+        @Override
+        public List<Product> findAllByName(String productName) {
+            return delegate.findAllByName(productName);
+        }
+
+        @Override
+        public Optional<Product> findLot(String productName, boolean promotionLot) {
+            return delegate.findLot(productName, promotionLot);
+        }
+
+        @Override
+        public List<List<Product>> findAllByNames(List<String> productNames) {
+            return delegate.findAllByNames(productNames);
+        }
+
+        @Override
+        public List<Product> getStocks() {
+            scans.incrementAndGet();
+            return delegate.getStocks();
+        }
+
+        @Override
+        public void addStockListener(StockListener stockListener) {
+            delegate.addStockListener(stockListener);
+        }
+
+        @Override
+        public long getCatalogGeneration() {
+            return delegate.getCatalogGeneration();
+        }
+    }
+}
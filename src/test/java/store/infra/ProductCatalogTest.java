@@ -0,0 +1,91 @@
+package store.infra;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class ProductCatalogTest {
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+    private Product colaPromo;
+    private Product cola;
+    private Product water;
+    private ProductCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        colaPromo = new Product("콜라", 1000, 10, promotion);
+        cola = new Product("콜라", 1000, 10, null);
+        water = new Product("물", 500, 10, null);
+        catalog = ProductCatalog.of(List.of(colaPromo, cola, water));
+    }
+
+    @Test
+    @DisplayName("상품 이름마다 연속된 id 를 부여한다")
+    void shouldAssignDenseIdPerName() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(catalog.idOf("콜라")).isZero();
+            softly.assertThat(catalog.idOf("물")).isEqualTo(1);
+            softly.assertThat(catalog.idOf("없는상품")).isEqualTo(ProductCatalog.NOT_FOUND);
+            softly.assertThat(catalog.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("id 로 프로모션 재고와 일반 재고를 조회한다")
+    void shouldFindLotsById() {
+        int id = catalog.idOf("콜라");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(catalog.lotsOf(id)).containsExactly(colaPromo, cola);
+            softly.assertThat(catalog.promotionLotOf(id)).contains(colaPromo);
+            softly.assertThat(catalog.normalLotOf(id)).contains(cola);
+            softly.assertThat(catalog.promotionLotOf(catalog.idOf("물"))).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 종류의 재고가 중복되면 예외가 발생한다")
+    void shouldThrowWhenLotIsDuplicated() {
+        List<Product> duplicated = List.of(cola, new Product("콜라", 1200, 3, null));
+
+        Assertions.assertThatThrownBy(() -> ProductCatalog.of(duplicated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(InfraErrorMessage.DUPLICATED_PRODUCT_LOT.getMessage());
+    }
+
+    @Test
+    @DisplayName("교체되어 떼어 낸 카탈로그는 재고 변경 알림을 더 받지 않는다")
+    void detachedCatalogStopsListening() {
+        AtomicInteger notified = new AtomicInteger();
+        ProductCatalog listened = ProductCatalog.of(List.of(water),
+                (product, previousQuantity) -> notified.incrementAndGet());
+
+        water.decrease(1);
+        listened.detach();
+        water.decrease(1);
+
+        Assertions.assertThat(notified).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 조회하고, 없는 상품이 있으면 예외가 발생한다")
+    void shouldFindAllByNames() {
+        FilerLoaderProductRepository repository = new FilerLoaderProductRepository(List.of(colaPromo, cola, water));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(repository.findAllByNames(List.of("물", "콜라")))
+                    .containsExactly(List.of(water), List.of(colaPromo, cola));
+            softly.assertThatThrownBy(() -> repository.findAllByNames(List.of("물", "없는상품")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(InfraErrorMessage.PRODUCT_NOT_FOUND.getMessage());
+        });
+    }
+}
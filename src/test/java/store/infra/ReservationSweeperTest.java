@@ -0,0 +1,56 @@
+package store.infra;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+import store.domain.Reservation;
+
+class ReservationSweeperTest {
+    @Test
+    @DisplayName("만료된 예약은 스위퍼가 풀어 재고를 되돌린다")
+    void shouldReleaseExpiredReservation() throws InterruptedException {
+        Product water = new Product("물", 500, 10, null);
+        Order order = new Order(List.of(new OrderProduct(List.of(water), 4, LocalDateTime.now())));
+
+        try (ReservationSweeper sweeper = new ReservationSweeper()) {
+            sweeper.start();
+            Reservation reservation = order.reserve(Duration.ofMillis(50));
+            sweeper.track(reservation);
+
+            for (int attempt = 0; attempt < 100 && reservation.isActive(); attempt++) {
+                Thread.sleep(10);
+            }
+        }
+
+        Assertions.assertThat(water.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("만료 전에 확정되거나 풀린 예약은 추적 목록에서 바로 빠진다")
+    void shouldUntrackConvertedOrReleasedReservation() {
+        Product water = new Product("물", 500, 10, null);
+        Order committed = new Order(List.of(new OrderProduct(List.of(water), 2, LocalDateTime.now())));
+        Order abandoned = new Order(List.of(new OrderProduct(List.of(water), 3, LocalDateTime.now())));
+
+        try (ReservationSweeper sweeper = new ReservationSweeper()) {
+            sweeper.track(committed.reserve(Duration.ofMinutes(5)));
+            Reservation reservation = abandoned.reserve(Duration.ofMinutes(5));
+            sweeper.track(reservation);
+
+            committed.commit();
+            reservation.release();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(sweeper.pendingCount()).isZero();
+                softly.assertThat(water.getQuantity()).isEqualTo(8);
+            });
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package store.infra;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Order;
+import store.domain.OrderProduct;
+import store.domain.Product;
+
+class StockListingCacheTest {
+    private List<Product> lots;
+    private FilerLoaderProductRepository repository;
+    private InventoryVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        lots = IntStream.range(0, 100)
+                .mapToObj(index -> new Product("상품" + index, 100, 10, null))
+                .toList();
+        repository = new FilerLoaderProductRepository(lots);
+        versions = new InventoryVersions(repository);
+    }
+
+    private void commit(Product product, int quantity) {
+        Order order = new Order(List.of(new OrderProduct(List.of(product), quantity, LocalDateTime.now())));
+        versions.record(order::decreaseAmount);
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 캐시된 목록을 그대로 돌려준다")
+    void returnsCachedListingForSameVersion() {
+        String first = versions.renderListing();
+        String second = versions.renderListing();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(versions.getListingStats().hits()).isEqualTo(1);
+            softly.assertThat(versions.getListingStats().misses()).isEqualTo(1);
+            softly.assertThat(versions.getListingStats().renderedRows()).isEqualTo(100);
+        });
+    }
+
+    @Test
+    @DisplayName("새 버전에서는 수량이 바뀐 행만 다시 그리고 결과는 전체 출력과 같다")
+    void rerendersOnlyChangedRows() {
+        versions.renderListing();
+
+        commit(lots.get(70), 10);
+        String listing = versions.renderListing();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(listing).isEqualTo(repository.toString());
+            softly.assertThat(listing).contains("- 상품70 100원 재고 없음");
+            softly.assertThat(versions.getListingStats().renderedRows()).isEqualTo(101);
+        });
+    }
+
+    @Test
+    @DisplayName("카탈로그가 다시 로드되면 목록 전체를 다시 그린다")
+    void rerendersAllRowsAfterReload() {
+        versions.renderListing();
+
+        repository.replaceStocks(List.of(new Product("물", 500, 3, null)));
+        String listing = versions.renderListing();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(listing).isEqualTo("- 물 500원 3개");
+            softly.assertThat(versions.getListingStats().renderedRows()).isEqualTo(101);
+        });
+    }
+}
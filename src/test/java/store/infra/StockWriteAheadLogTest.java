@@ -0,0 +1,241 @@
+package store.infra;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.StockDecrement;
+
+class StockWriteAheadLogTest {
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+
+    @TempDir
+    private Path directory;
+
+    private FilerLoaderProductRepository newRepository() {
+        return new FilerLoaderProductRepository(List.of(
+                new Product("콜라", 1000, 10, promotion),
+                new Product("콜라", 1000, 10, null),
+                new Product("물", 500, 10, null)
+        ));
+    }
+
+    private static List<StockDecrement> decrease(Product product, int quantity) {
+        product.decrease(quantity);
+        return List.of(new StockDecrement(product, quantity));
+    }
+
+    private static int quantityOf(FilerLoaderProductRepository repository, String name, boolean promotionLot) {
+        return repository.findLot(name, promotionLot).orElseThrow().getQuantity();
+    }
+
+    @Test
+    @DisplayName("기록된 재고 차감은 재시작 후 복구된다")
+    void shouldReplayRecordedDecrements() {
+        FilerLoaderProductRepository repository = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            Product promotionCola = repository.findLot("콜라", true).orElseThrow();
+            Product water = repository.findLot("물", false).orElseThrow();
+            wal.record(() -> decrease(promotionCola, 3));
+            wal.record(() -> decrease(water, 2));
+        }
+
+        FilerLoaderProductRepository restarted = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            wal.recover(restarted);
+        }
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(quantityOf(restarted, "콜라", true)).isEqualTo(7);
+            softly.assertThat(quantityOf(restarted, "콜라", false)).isEqualTo(10);
+            softly.assertThat(quantityOf(restarted, "물", false)).isEqualTo(8);
+        });
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후에는 이전 로그 세그먼트를 지우고 체크포인트부터 복구한다")
+    void shouldRecoverFromCheckpoint() throws IOException {
+        FilerLoaderProductRepository repository = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            Product water = repository.findLot("물", false).orElseThrow();
+            wal.record(() -> decrease(water, 4));
+            wal.checkpoint(repository.getStocks());
+            wal.record(() -> decrease(water, 1));
+        }
+
+        FilerLoaderProductRepository restarted = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            wal.recover(restarted);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder("checkpoint-0000000001.snapshot", "stock-0000000001.wal");
+        }
+        Assertions.assertThat(quantityOf(restarted, "물", false)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("쓰다가 끊긴 마지막 레코드는 무시하고 그 앞까지만 복구한다")
+    void shouldIgnoreTornTail() throws IOException {
+        FilerLoaderProductRepository repository = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            Product water = repository.findLot("물", false).orElseThrow();
+            wal.record(() -> decrease(water, 2));
+        }
+        Files.write(directory.resolve("stock-0000000000.wal"), new byte[]{0, 0, 0, 40, 1, 2},
+                StandardOpenOption.APPEND);
+
+        FilerLoaderProductRepository restarted = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            wal.recover(restarted);
+        }
+
+        Assertions.assertThat(quantityOf(restarted, "물", false)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("로그를 동기화하지 못하면 차감을 되돌리고 실패한 레코드는 복구하지 않는다")
+    void shouldRestoreDecrementsWhenSyncFails() {
+        FilerLoaderProductRepository repository = newRepository();
+        AtomicInteger remainingFailures = new AtomicInteger(1);
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory,
+                path -> new FailingForceChannel(FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND), remainingFailures))) {
+            Product water = repository.findLot("물", false).orElseThrow();
+
+            Assertions.assertThatThrownBy(() -> wal.record(() -> decrease(water, 3)))
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            Assertions.assertThat(water.getQuantity()).isEqualTo(10);
+
+            wal.record(() -> decrease(water, 2));
+        }
+
+        FilerLoaderProductRepository restarted = newRepository();
+        try (StockWriteAheadLog wal = new StockWriteAheadLog(directory)) {
+            wal.recover(restarted);
+        }
+
+        Assertions.assertThat(quantityOf(restarted, "물", false)).isEqualTo(8);
+    }
+
+    private static final class FailingForceChannel extends FileChannel {
+        private final FileChannel delegate;
+        private final AtomicInteger remainingFailures;
+
+        private FailingForceChannel(FileChannel delegate, AtomicInteger remainingFailures) {
+            this.delegate = delegate;
+            this.remainingFailures = remainingFailures;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IOException("fsync failed");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package store.infra.loader;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import store.domain.Product;
+import store.domain.Promotion;
+
+@Tag("benchmark")
+class CatalogNormalizerBenchmark {
+    private static final int BASE_SIZE = 50_000;
+    private static final int SCALE = 8;
+    private static final int ROUNDS = 5;
+    private static final double MAX_GROWTH_FACTOR = 3.0;
+
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+
+    @Test
+    @DisplayName("정규화 시간은 카탈로그 크기에 선형으로 증가한다")
+    void normalizeScalesLinearly() {
+        List<Product> small = generateCatalog(BASE_SIZE);
+        List<Product> large = generateCatalog(BASE_SIZE * SCALE);
+        measure(large);
+
+        long smallNanos = measure(small);
+        long largeNanos = measure(large);
+
+        System.out.printf("normalize %,d rows: %,d us%n", small.size(), smallNanos / 1_000);
+        System.out.printf("normalize %,d rows: %,d us%n", large.size(), largeNanos / 1_000);
+        Assertions.assertThat((double) largeNanos / smallNanos).isLessThan(SCALE * MAX_GROWTH_FACTOR);
+    }
+
+    private List<Product> generateCatalog(int productCount) {
+        List<Product> products = new ArrayList<>(productCount * 2);
+        for (int index = 0; index < productCount; index++) {
+            String name = "상품" + index;
+            products.add(new Product(name, 1000, 10, promotion));
+            if (index % 2 == 0) {
+                products.add(new Product(name, 1000, 10, null));
+            }
+        }
+        return products;
+    }
+
+    private static long measure(List<Product> products) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            CatalogNormalizer.normalize(products);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
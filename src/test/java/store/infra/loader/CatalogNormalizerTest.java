@@ -0,0 +1,35 @@
+package store.infra.loader;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.Product;
+import store.domain.Promotion;
+
+class CatalogNormalizerTest {
+    private final Promotion promotion = new Promotion("MD추천상품", 1, 1, LocalDate.of(2024, 1, 1).atStartOfDay(),
+            LocalDate.of(2024, 12, 31).atStartOfDay());
+
+    @Test
+    @DisplayName("상품마다 프로모션 재고와 일반 재고를 이어서 내보내고, 없는 일반 재고는 0개로 채운다")
+    void shouldEmitPromotionAndNormalLotsTogether() {
+        List<Product> products = List.of(
+                new Product("오렌지주스", 1800, 9, promotion),
+                new Product("물", 500, 10, null),
+                new Product("초코바", 1200, 5, null),
+                new Product("초코바", 1200, 5, promotion)
+        );
+
+        List<Product> normalized = CatalogNormalizer.normalize(products);
+
+        Assertions.assertThat(normalized).extracting(Product::toString).containsExactly(
+                "- 오렌지주스 1,800원 9개 MD추천상품",
+                "- 오렌지주스 1,800원 재고 없음",
+                "- 물 500원 10개",
+                "- 초코바 1,200원 5개 MD추천상품",
+                "- 초코바 1,200원 5개"
+        );
+    }
+}
@@ -1,13 +1,18 @@
 package store.infra.loader;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -35,6 +40,33 @@ class FileLoaderTest {
         });
     }
 
+    @DisplayName("메모리 매핑으로 파일 라인을 스트리밍해서 읽는다.")
+    @Test
+    void shouldStreamLinesFromMappedFile() {
+        try (Stream<String> lines = fileLoader.streamFileLines(VALID_FILE_PATH)) {
+            Assertions.assertThat(lines).containsExactly("field1,field2,field3", "data1,data2,data3");
+        }
+    }
+
+    @DisplayName("메모리 매핑으로 읽은 라인은 readAllLines 와 같은 결과를 낸다.")
+    @Test
+    void shouldStreamSameLinesAsReadAllLines(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("products.md");
+        Files.writeString(file, "name,price\r\n콜라,1000\n\n사이다,1000");
+
+        try (Stream<String> lines = fileLoader.streamFileLines(file.toString())) {
+            Assertions.assertThat(lines).containsExactlyElementsOf(Files.readAllLines(file));
+        }
+    }
+
+    @DisplayName("존재하지 않는 파일을 스트리밍하려고 하면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenStreamingMissingFile() {
+        Assertions.assertThatThrownBy(() -> fileLoader.streamFileLines(INVALID_FILE_PATH))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(InfraErrorMessage.FILE_NOT_FOUND.getMessage());
+    }
+
     @DisplayName("존재하지 않는 파일을 읽으려고 하면 예외가 발생한다.")
     @Test
     void shouldThrowExceptionWhenFileNotFound() {
@@ -104,6 +136,15 @@ class FileLoaderTest {
                 .hasMessage(InfraErrorMessage.INVALID_PROMOTION_FORMAT.getMessage());
     }
 
+    @DisplayName("라인 안에 필드가 더 많을 때 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionForTooManyFields() {
+        String line = "data1,data2,data3,data4";
+        Assertions.assertThatThrownBy(() -> fileLoader.getDeclaredFields(line, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(InfraErrorMessage.INVALID_PROMOTION_FORMAT.getMessage());
+    }
+
     static class StubFileLoader extends FileLoader<String> {
 
         @Override
@@ -111,6 +152,16 @@ class FileLoaderTest {
             return lines;
         }
 
+        @Override
+        protected String parseRow(String line) {
+            return line;
+        }
+
+        @Override
+        protected InfraErrorMessage getRowFormatError() {
+            return InfraErrorMessage.INVALID_PROMOTION_FORMAT;
+        }
+
         @Override
         protected List<String> load(String filePath) {
             List<String> lines = readFileLines(filePath);
@@ -0,0 +1,81 @@
+package store.infra.loader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.infra.InfraErrorMessage;
+import store.infra.InfraException;
+
+class ParallelFileParserTest {
+    private static final long SMALL_CHUNK_SIZE = 16;
+
+    @TempDir
+    private Path directory;
+    private ForkJoinPool pool;
+    private ParallelFileParser<Integer> parser;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        parser = new ParallelFileParser<>(ParallelFileParserTest::parsePrice, InfraErrorMessage.INVALID_PRODUCT_FORMAT,
+                pool, SMALL_CHUNK_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static Integer parsePrice(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 2) {
+            throw new IllegalArgumentException("형식 오류");
+        }
+        try {
+            return Integer.parseInt(fields[1]);
+        } catch (NumberFormatException e) {
+            throw new InfraException(InfraErrorMessage.INVALID_INTEGER);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 청크로 나누어 파싱해도 파일 순서대로 결과를 합친다")
+    void shouldMergeChunksInFileOrder() throws IOException {
+        Path file = directory.resolve("products.md");
+        StringBuilder content = new StringBuilder("name,price\n");
+        for (int index = 0; index < 200; index++) {
+            content.append("상품").append(index).append(',').append(index).append('\n');
+        }
+        Files.writeString(file, content);
+
+        LoadReport<Integer> report = parser.parse(file);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(report.rows()).hasSize(200).isSorted();
+            softly.assertThat(report.hasErrors()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("잘못된 행을 모두 라인 번호와 함께 보고한다")
+    void shouldReportEveryMalformedRow() throws IOException {
+        Path file = directory.resolve("products.md");
+        Files.writeString(file, "name,price\n콜라,1000\n사이다,abc\n물,500\n잘못된행\n감자칩,1500\n");
+
+        LoadReport<Integer> report = parser.parse(file);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(report.rows()).containsExactly(1000, 500, 1500);
+            softly.assertThat(report.errors()).containsExactly(
+                    new LoadError(3, InfraErrorMessage.INVALID_INTEGER),
+                    new LoadError(5, InfraErrorMessage.INVALID_PRODUCT_FORMAT));
+        });
+    }
+}
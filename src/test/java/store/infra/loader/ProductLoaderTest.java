@@ -1,24 +1,36 @@
 package store.infra.loader;
 
 import camp.nextstep.edu.missionutils.DateTimes;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import store.domain.Product;
 import store.domain.Promotion;
+import store.infra.InfraErrorMessage;
 import store.infra.PromotionFactory;
+import store.infra.loader.FileLoader.ReadMode;
 
 class ProductLoaderTest {
+    @TempDir
+    private Path directory;
+    private PromotionFactory promotionFactory;
     private ProductLoader productLoader;
 
     @BeforeEach
     void setUp() {
         PromotionLoader promotionLoader = new PromotionLoader();
         List<Promotion> promotions = promotionLoader.loadPromotions();
-        PromotionFactory promotionFactory = new PromotionFactory(promotions);
+        promotionFactory = new PromotionFactory(promotions);
         productLoader = new ProductLoader(promotionFactory);
     }
 
@@ -62,6 +74,54 @@ class ProductLoaderTest {
         });
     }
 
+    @Test
+    @DisplayName("병렬로 로드해도 순차 로드와 같이 정규화된 상품을 같은 순서로 반환한다")
+    void shouldLoadSameProductsInParallel() {
+        List<Product> sequential = productLoader.loadProducts();
+
+        LoadReport<Product> report = productLoader.loadProductsInParallel();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(report.hasErrors()).isFalse();
+            softly.assertThat(report.rows()).extracting(Product::toString)
+                    .containsExactlyElementsOf(sequential.stream().map(Product::toString).toList());
+        });
+    }
+
+    @Test
+    @DisplayName("병렬 읽기 모드로도 같은 상품 목록을 로드한다")
+    void shouldLoadSameProductsWithParallelReadMode() {
+        ProductLoader parallelLoader = new ProductLoader(promotionFactory, ReadMode.PARALLEL);
+
+        Assertions.assertThat(parallelLoader.loadProducts()).extracting(Product::toString)
+                .containsExactlyElementsOf(productLoader.loadProducts().stream().map(Product::toString).toList());
+    }
+
+    @Test
+    @DisplayName("병렬 읽기 모드에서 잘못된 행이 있으면 그 행의 오류로 실패한다")
+    void shouldFailOnMalformedRowWithParallelReadMode() throws IOException {
+        Path file = directory.resolve("products.md");
+        Files.writeString(file, "name,price,quantity,promotion\n콜라,1000,10,null\n사이다,abc,8,null\n");
+        ProductLoader parallelLoader = new ProductLoader(promotionFactory, ReadMode.PARALLEL);
+
+        Assertions.assertThatThrownBy(() -> parallelLoader.loadProducts(file.toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(InfraErrorMessage.INVALID_INTEGER.getMessage());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReadMode.class)
+    @DisplayName("필드 개수가 맞지 않는 상품 행은 상품 형식 오류로 실패한다")
+    void shouldFailOnWrongFieldCount(ReadMode readMode) throws IOException {
+        Path file = directory.resolve("products.md");
+        Files.writeString(file, "name,price,quantity,promotion\n콜라,1000,10\n");
+        ProductLoader loader = new ProductLoader(promotionFactory, readMode);
+
+        Assertions.assertThatThrownBy(() -> loader.loadProducts(file.toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(InfraErrorMessage.INVALID_PRODUCT_FORMAT.getMessage());
+    }
+
     private Product findProductByNameAndPromotion(List<Product> products, String name, String promotionName) {
         return products.stream()
                 .filter(product -> product.getName().equals(name))
@@ -0,0 +1,139 @@
+package store.presentation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.application.ConvenienceStoreService;
+import store.application.OrderParser;
+import store.domain.Product;
+import store.domain.ReservationTracker;
+import store.domain.Promotion;
+import store.infra.FilerLoaderProductRepository;
+import store.infra.InventoryVersions;
+
+class CheckoutHttpServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private CheckoutHttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Promotion promotion = new Promotion("1+1", 1, 1, LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(1));
+        FilerLoaderProductRepository repository = new FilerLoaderProductRepository(List.of(
+                new Product("콜라", 1000, 3, promotion),
+                new Product("콜라", 1000, 10, null),
+                new Product("물", 500, 2, null)
+        ));
+        server = new CheckoutHttpServer(new ConvenienceStoreService(new OrderParser(), repository), 0);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .POST(BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("재고 목록을 조회한다")
+    void shouldListStocks() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/stocks"))
+                .build();
+
+        HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+
+        Assertions.assertThat(response.body()).contains("- 물 500원 2개");
+    }
+
+    @Test
+    @DisplayName("견적은 무료 증정과 정가 구매 안내에 필요한 값을 돌려준다")
+    void shouldQuoteOrder() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/quote", "[콜라-5]");
+
+        Assertions.assertThat(response.body().lines())
+                .containsExactly("name,quantity,unclaimedFreeItem,fallbackToNormal", "콜라,5,false,2");
+    }
+
+    @Test
+    @DisplayName("주문을 확정하면 영수증을 돌려주고 재고를 차감한다")
+    void shouldCommitOrder() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/commit?member=alice", "[물-2]");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            softly.assertThat(response.body()).contains("내실돈");
+            softly.assertThat(post("/stocks", "").statusCode()).isEqualTo(405);
+        });
+    }
+
+    @Test
+    @DisplayName("재고를 넘는 주문은 409, 잘못된 주문은 400 으로 응답한다")
+    void shouldMapErrorsToStatus() throws IOException, InterruptedException {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(post("/commit", "[물-3]").statusCode()).isEqualTo(409);
+            softly.assertThat(post("/commit", "[물]").statusCode()).isEqualTo(400);
+            softly.assertThat(post("/commit?membership=Y", "[물-1]").statusCode()).isEqualTo(400);
+        });
+    }
+
+    @Test
+    @DisplayName("멤버십과 회원 번호는 쿼리 순서와 상관없이 읽는다")
+    void shouldReadMemberShipRegardlessOfParameterOrder() throws IOException, InterruptedException {
+        HttpResponse<String> membershipFirst = post("/commit?membership=Y&member=bob", "[물-1]");
+        HttpResponse<String> memberFirst = post("/commit?member=bob&membership=Y", "[물-1]");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(membershipFirst.statusCode()).isEqualTo(200);
+            softly.assertThat(membershipFirst.body()).contains("멤버십할인\t\t-150");
+            softly.assertThat(memberFirst.statusCode()).isEqualTo(200);
+            softly.assertThat(memberFirst.body()).contains("멤버십할인\t\t-150");
+        });
+    }
+
+    @Test
+    @DisplayName("재고 목록 캐시의 적중과 렌더링 통계를 조회한다")
+    void shouldReportListingStats() throws IOException, InterruptedException {
+        FilerLoaderProductRepository repository = new FilerLoaderProductRepository(List.of(
+                new Product("물", 500, 2, null),
+                new Product("사이다", 1000, 5, null)
+        ));
+        InventoryVersions versions = new InventoryVersions(repository);
+        try (CheckoutHttpServer versioned = new CheckoutHttpServer(new ConvenienceStoreService(new OrderParser(),
+                repository, versions, ReservationTracker.NONE, versions), 0)) {
+            versioned.start();
+            get(versioned, "/stocks");
+            get(versioned, "/stocks");
+
+            List<String> lines = get(versioned, "/listing-stats").body().lines().toList();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(lines.get(0)).isEqualTo("hits,misses,renderedRows,renderNanos");
+                softly.assertThat(lines.get(1)).startsWith("1,1,2,");
+            });
+        }
+    }
+
+    private HttpResponse<String> get(CheckoutHttpServer target, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + target.getPort() + path))
+                .build();
+        return client.send(request, BodyHandlers.ofString());
+    }
+}